@@ -0,0 +1,39 @@
+package com.test_zara.zara_pricing.benchmarks;
+
+import com.test_zara.zara_pricing.infrastructure.configs.WebConfig.StringToLocalDateTimeConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversión del parámetro date en cada uno de los formatos admitidos; los formatos alternativo e ISO
+ * pagan antes los intentos fallidos con los formatos anteriores
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DateConverterBenchmark {
+
+    @Param({"2020-06-14 16:00:00", "2020-06-14-16.00.00", "2020-06-14T16:00:00"})
+    private String source;
+
+    private final StringToLocalDateTimeConverter converter = new StringToLocalDateTimeConverter();
+
+    @Benchmark
+    public LocalDateTime convert() {
+        return converter.convert(source);
+    }
+}
@@ -0,0 +1,39 @@
+package com.test_zara.zara_pricing.benchmarks;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Tarifas de un solo producto, todas vigentes en {@link #DATE}, generadas con semilla fija para que cada
+ * ejecución mida exactamente los mismos datos
+ */
+final class PriceDataset {
+
+    static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    static final Integer BRAND_ID = 1;
+
+    static final Long PRODUCT_ID = 35455L;
+
+    private static final long SEED = 35455L;
+
+    private PriceDataset() {
+    }
+
+    static List<Price> overlapping(int rows) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Price> prices = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            LocalDateTime start = DATE.minusMinutes(1 + random.nextInt(60 * 24 * 30));
+            LocalDateTime end = DATE.plusMinutes(1 + random.nextInt(60 * 24 * 30));
+            BigDecimal amount = BigDecimal.valueOf(500 + random.nextInt(9_500), 2);
+            prices.add(new Price(BRAND_ID, start, end, i + 1, PRODUCT_ID, random.nextInt(10), amount, "EUR"));
+        }
+        return prices;
+    }
+}
@@ -0,0 +1,47 @@
+package com.test_zara.zara_pricing.benchmarks;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.services.PriceDomainService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selección de la tarifa ganadora entre N tarifas solapadas del mismo producto
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PriceDomainServiceBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    private int rows;
+
+    private final PriceDomainService priceDomainService = new PriceDomainService();
+
+    private List<Price> prices;
+
+    @Setup
+    public void setUp() {
+        prices = PriceDataset.overlapping(rows);
+    }
+
+    @Benchmark
+    public Price selectHighestPriorityPrice() {
+        return priceDomainService.selectHighestPriorityPrice(prices);
+    }
+}
@@ -0,0 +1,105 @@
+package com.test_zara.zara_pricing.benchmarks;
+
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory.PriceKeyMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Búsqueda por (brandId, productId) en {@link PriceKeyMap} frente a un HashMap con clave record(Integer, Long),
+ * con las mismas claves y las mismas consultas, que llegan en cajas como desde el controlador.
+ * Las consultas recorren claves al azar, así que con 10M claves casi todas fallan en caché de CPU.
+ * La memoria de cada estructura se mide aparte con {@link PriceKeyMapFootprint}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+public class PriceKeyMapBenchmark {
+
+    static final int BRANDS = 8;
+
+    static final long FIRST_PRODUCT_ID = 1_000_000L;
+
+    private static final int PROBES = 1 << 16;
+
+    private static final Object VALUE = new Object();
+
+    @Param({"1000000", "10000000"})
+    private int keys;
+
+    private PriceKeyMap<Object> priceKeyMap;
+
+    private Map<ProductKey, Object> hashMap;
+
+    private Integer[] probeBrands;
+
+    private Long[] probeProducts;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        priceKeyMap = priceKeyMap(keys);
+        hashMap = hashMap(keys);
+
+        SplittableRandom random = new SplittableRandom(35455L);
+        probeBrands = new Integer[PROBES];
+        probeProducts = new Long[PROBES];
+        for (int probe = 0; probe < PROBES; probe++) {
+            int index = random.nextInt(keys);
+            probeBrands[probe] = brandOf(index);
+            probeProducts[probe] = FIRST_PRODUCT_ID + index;
+        }
+    }
+
+    @Benchmark
+    public Object priceKeyMapGet() {
+        int probe = next++ & (PROBES - 1);
+        return priceKeyMap.get(probeBrands[probe], probeProducts[probe]);
+    }
+
+    @Benchmark
+    public Object hashMapGet() {
+        int probe = next++ & (PROBES - 1);
+        return hashMap.get(new ProductKey(probeBrands[probe], probeProducts[probe]));
+    }
+
+    static PriceKeyMap<Object> priceKeyMap(int keys) {
+        PriceKeyMap<Object> map = new PriceKeyMap<>(keys);
+        for (int index = 0; index < keys; index++) {
+            map.put(PriceKeyMap.pack(brandOf(index), FIRST_PRODUCT_ID + index), VALUE);
+        }
+        return map;
+    }
+
+    static Map<ProductKey, Object> hashMap(int keys) {
+        Map<ProductKey, Object> map = HashMap.newHashMap(keys);
+        for (int index = 0; index < keys; index++) {
+            map.put(new ProductKey(brandOf(index), FIRST_PRODUCT_ID + index), VALUE);
+        }
+        return map;
+    }
+
+    private static int brandOf(int index) {
+        return 1 + index % BRANDS;
+    }
+
+    record ProductKey(Integer brandId, Long productId) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.test_zara.zara_pricing.benchmarks;
+
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory.PriceKeyMap;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Memoria retenida por {@link PriceKeyMap} y por el HashMap de {@link PriceKeyMapBenchmark} con las mismas claves,
+ * recorriendo el grafo de objetos con JOL; se imprime junto a la estimación de {@link PriceKeyMap#memoryReport()}.
+ * El valor es el mismo objeto en todas las entradas, así que solo cuenta la estructura.
+ * <pre>
+ * java -Xmx8g -cp benchmarks/target/benchmarks.jar com.test_zara.zara_pricing.benchmarks.PriceKeyMapFootprint 10000000
+ * </pre>
+ */
+public final class PriceKeyMapFootprint {
+
+    private PriceKeyMapFootprint() {
+    }
+
+    public static void main(String[] args) {
+        int keys = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+
+        PriceKeyMap<Object> priceKeyMap = PriceKeyMapBenchmark.priceKeyMap(keys);
+        long priceKeyMapBytes = GraphLayout.parseInstance(priceKeyMap).totalSize();
+        PriceKeyMap.MemoryReport estimate = priceKeyMap.memoryReport();
+        priceKeyMap = null;
+
+        long hashMapBytes = GraphLayout.parseInstance(PriceKeyMapBenchmark.hashMap(keys)).totalSize();
+
+        System.out.printf("""
+                        %d claves
+                        PriceKeyMap          %,d bytes (%.1f B/clave)
+                        HashMap<record, V>   %,d bytes (%.1f B/clave)
+                        Estimación memoryReport: %s%n""",
+                keys,
+                priceKeyMapBytes, (double) priceKeyMapBytes / keys,
+                hashMapBytes, (double) hashMapBytes / keys,
+                estimate);
+    }
+}
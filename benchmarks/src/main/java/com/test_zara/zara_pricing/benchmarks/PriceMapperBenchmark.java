@@ -0,0 +1,72 @@
+package com.test_zara.zara_pricing.benchmarks;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.jpa.entity.PriceEntity;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceResponse;
+import com.test_zara.zara_pricing.infrastructure.mappers.PriceMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeos de MapStruct sobre las N tarifas de un producto: entidad a dominio y dominio a DTO de respuesta
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PriceMapperBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    private int rows;
+
+    private final PriceMapper priceMapper = Mappers.getMapper(PriceMapper.class);
+
+    private List<Price> prices;
+
+    private List<PriceEntity> entities;
+
+    @Setup
+    public void setUp() {
+        prices = PriceDataset.overlapping(rows);
+        entities = prices.stream()
+                .map(price -> PriceEntity.builder()
+                        .brandId(price.brandId())
+                        .startDate(price.startDate())
+                        .endDate(price.endDate())
+                        .priceList(price.priceList())
+                        .productId(price.productId())
+                        .priority(price.priority())
+                        .price(price.price())
+                        .curr(price.currency())
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public void toDomain(Blackhole blackhole) {
+        for (PriceEntity entity : entities) {
+            blackhole.consume(priceMapper.toDomain(entity));
+        }
+    }
+
+    @Benchmark
+    public List<PriceResponse> toDto() {
+        return priceMapper.toDto(prices);
+    }
+}
@@ -0,0 +1,124 @@
+package com.test_zara.zara_pricing.benchmarks;
+
+import com.test_zara.zara_pricing.application.services.impl.PriceServiceImpl;
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.ports.out.PriceEventPublisher;
+import com.test_zara.zara_pricing.domain.ports.out.PriceOutputPort;
+import com.test_zara.zara_pricing.domain.services.PriceDomainService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Llamada completa a {@link PriceServiceImpl} con las N tarifas del producto en memoria y un publicador
+ * que no hace nada: mide el servicio y el dominio sin base de datos ni Kafka
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PriceServiceBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    private int rows;
+
+    private PriceServiceImpl priceService;
+
+    @Setup
+    public void setUp() {
+        priceService = new PriceServiceImpl(
+                new InMemoryPriceOutputPort(PriceDataset.overlapping(rows)),
+                new PriceDomainService(),
+                new NoOpPriceEventPublisher());
+    }
+
+    @Benchmark
+    public Price getFinalPrice() {
+        return priceService.getFinalPrice(PriceDataset.DATE, PriceDataset.PRODUCT_ID, PriceDataset.BRAND_ID);
+    }
+
+    @Benchmark
+    public Price getFinalPriceWithConvention() {
+        return priceService.getFinalPriceWithConvention(PriceDataset.DATE, PriceDataset.PRODUCT_ID, PriceDataset.BRAND_ID);
+    }
+
+    /**
+     * Filtra las tarifas vigentes como lo haría la consulta, sin índices ni caché
+     */
+    private record InMemoryPriceOutputPort(List<Price> prices) implements PriceOutputPort {
+
+        @Override
+        public Optional<Price> findFinalPrice(Integer brandId, Long productId, LocalDateTime date) {
+            return applicable(brandId, productId, date).stream().max(PriceDomainService.PRICE_PRECEDENCE);
+        }
+
+        @Override
+        public List<Price> findFinalPriceWithConvention(Integer brandId, Long productId, LocalDateTime date) {
+            return applicable(brandId, productId, date);
+        }
+
+        @Override
+        public PriceWindow findPriceWindow(Integer brandId, Long productId, LocalDateTime date) {
+            return PriceWindow.of(prices, date);
+        }
+
+        @Override
+        public List<PriceWindow> findPriceWindows(List<PriceQuery> queries) {
+            return queries.stream()
+                    .map(query -> findPriceWindow(query.brandId(), query.productId(), query.date()))
+                    .toList();
+        }
+
+        @Override
+        public List<Price> findAll() {
+            return prices;
+        }
+
+        @Override
+        public List<Price> findPage(PriceCursor after, int limit) {
+            return prices.subList(0, Math.min(limit, prices.size()));
+        }
+
+        @Override
+        public void streamAll(Consumer<Price> action) {
+            prices.forEach(action);
+        }
+
+        private List<Price> applicable(Integer brandId, Long productId, LocalDateTime date) {
+            return prices.stream()
+                    .filter(price -> price.brandId().equals(brandId) && price.productId().equals(productId))
+                    .filter(price -> !price.startDate().isAfter(date) && !price.endDate().isBefore(date))
+                    .toList();
+        }
+    }
+
+    private static final class NoOpPriceEventPublisher implements PriceEventPublisher {
+
+        @Override
+        public void publishPriceRetrieved(Price price) {
+        }
+
+        @Override
+        public void publishPricesRetrieved(List<Price> prices) {
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.test_zara.zara_pricing.application.coalescing;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.ports.out.PriceOutputPort;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa consultas idénticas simultáneas sobre el puerto de salida (single-flight).
+ * La primera petición de una clave (operación, brandId, productId, fecha) consulta el adaptador y las que llegan
+ * mientras tanto esperan su resultado, o su excepción, en lugar de lanzar otra consulta. Nada se guarda al
+ * terminar: una petición posterior vuelve a consultar.
+ * La espera está acotada por maxWait; pasado ese tiempo la petición deja de esperar y consulta por su cuenta.
+ * Las consultas por lotes y los listados pasan directamente al adaptador.
+ */
+public class CoalescingPriceOutputPort implements PriceOutputPort {
+
+    private final PriceOutputPort delegate;
+
+    private final long maxWaitNanos;
+
+    private final ConcurrentHashMap<LookupKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    private final LongAdder timedOut = new LongAdder();
+
+    public CoalescingPriceOutputPort(PriceOutputPort delegate, Duration maxWait) {
+        this.delegate = delegate;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public Optional<Price> findFinalPrice(
+            Integer brandId,
+            Long productId,
+            LocalDateTime date
+    ) {
+        return coalesce(new LookupKey(Operation.FINAL_PRICE, brandId, productId, date),
+                () -> delegate.findFinalPrice(brandId, productId, date));
+    }
+
+    @Override
+    public List<Price> findFinalPriceWithConvention(
+            Integer brandId,
+            Long productId,
+            LocalDateTime date
+    ) {
+        // Copia inmutable: la misma lista se entrega a todas las peticiones agrupadas
+        return coalesce(new LookupKey(Operation.APPLICABLE_PRICES, brandId, productId, date),
+                () -> List.copyOf(delegate.findFinalPriceWithConvention(brandId, productId, date)));
+    }
+
+    @Override
+    public PriceWindow findPriceWindow(
+            Integer brandId,
+            Long productId,
+            LocalDateTime date
+    ) {
+        return coalesce(new LookupKey(Operation.PRICE_WINDOW, brandId, productId, date),
+                () -> delegate.findPriceWindow(brandId, productId, date));
+    }
+
+    @Override
+    public List<PriceWindow> findPriceWindows(List<PriceQuery> queries) {
+        return delegate.findPriceWindows(queries);
+    }
+
+    @Override
+    public List<Price> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Price> findPage(PriceCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<Price> action) {
+        delegate.streamAll(action);
+    }
+
+    /**
+     * Consultas lanzadas contra el adaptador, incluidas las de peticiones que se cansaron de esperar
+     */
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * Peticiones resueltas con el resultado de una consulta ajena
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Peticiones que dejaron de esperar al superar maxWait
+     */
+    public long timedOutCount() {
+        return timedOut.sum();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Fracción de peticiones que no han necesitado consulta propia
+     */
+    public double coalescingRatio() {
+        long shared = coalesced.sum();
+        long total = shared + executed.sum();
+        return total == 0 ? 0.0 : (double) shared / total;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(LookupKey key, Supplier<T> lookup) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> current = inFlight.putIfAbsent(key, flight);
+        if (current == null) {
+            return lead(key, flight, lookup);
+        }
+
+        try {
+            T result = (T) current.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            coalesced.increment();
+            return result;
+        } catch (ExecutionException e) {
+            coalesced.increment();
+            throw propagate(e.getCause());
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            executed.increment();
+            return lookup.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando una consulta de precios en curso", e);
+        }
+    }
+
+    private <T> T lead(LookupKey key, CompletableFuture<Object> flight, Supplier<T> lookup) {
+        executed.increment();
+        try {
+            T result = lookup.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Las peticiones agrupadas reciben la misma excepción que la consulta que esperaban
+     */
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private enum Operation {
+        FINAL_PRICE,
+        APPLICABLE_PRICES,
+        PRICE_WINDOW
+    }
+
+    private record LookupKey(Operation operation, Integer brandId, Long productId, LocalDateTime date) {
+    }
+}
@@ -4,6 +4,11 @@ package com.test_zara.zara_pricing.application.services.impl;
 import com.test_zara.zara_pricing.application.services.PriceService;
 import com.test_zara.zara_pricing.domain.exceptions.PriceNotFoundException;
 import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceLookup;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.model.ResolvedPrice;
 import com.test_zara.zara_pricing.domain.ports.in.PriceInputPort;
 import com.test_zara.zara_pricing.domain.ports.out.PriceOutputPort;
 import com.test_zara.zara_pricing.domain.services.PriceDomainService;
@@ -13,20 +18,27 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PriceServiceImpl implements PriceService, PriceInputPort {
 
+    /**
+     * Tarifas por lote de eventos al recorrer la tabla completa en streaming
+     */
+    private static final int STREAM_EVENT_BATCH = 500;
+
     private final PriceOutputPort priceOutputPort;
     private final PriceDomainService priceDomainService;
     private final PriceEventPublisher priceEventPublisher;
 
     @Override
     public Price getFinalPrice(LocalDateTime date, Long productId, Integer brandId) {
-        Price price = priceOutputPort.findFinalPrice(brandId, productId, date)
+        Price price = priceOutputPort.findFinalPrice(brandId, productId, PriceDomainService.atPriceResolution(date))
                 .orElseThrow(() -> new PriceNotFoundException("Price not found for the given criteria"));
 
         try {
@@ -40,7 +52,8 @@ public class PriceServiceImpl implements PriceService, PriceInputPort {
 
     @Override
     public Price getFinalPriceWithConvention(LocalDateTime date, Long productId, Integer brandId) {
-        List<Price> applicablePrices = priceOutputPort.findFinalPriceWithConvention(brandId, productId, date);
+        List<Price> applicablePrices = priceOutputPort.findFinalPriceWithConvention(
+                brandId, productId, PriceDomainService.atPriceResolution(date));
         Price selectedPrice = priceDomainService.selectHighestPriorityPrice(applicablePrices);
 
         try {
@@ -52,6 +65,53 @@ public class PriceServiceImpl implements PriceService, PriceInputPort {
         return selectedPrice;
     }
 
+    /**
+     * Resuelve sobre la ventana del producto: la ganadora es la misma que devuelve findFinalPrice y la ventana
+     * aporta la siguiente frontera de tarifa
+     */
+    @Override
+    public ResolvedPrice resolveFinalPrice(LocalDateTime date, Long productId, Integer brandId) {
+        PriceWindow window = priceOutputPort.findPriceWindow(brandId, productId, PriceDomainService.atPriceResolution(date));
+        Price price = window.winner()
+                .orElseThrow(() -> new PriceNotFoundException("Price not found for the given criteria"));
+
+        publishRetrieved(price);
+        return ResolvedPrice.of(price, window);
+    }
+
+    @Override
+    public ResolvedPrice resolveFinalPriceWithConvention(LocalDateTime date, Long productId, Integer brandId) {
+        PriceWindow window = priceOutputPort.findPriceWindow(brandId, productId, PriceDomainService.atPriceResolution(date));
+        Price selectedPrice = priceDomainService.selectHighestPriorityPrice(window.applicablePrices());
+
+        publishRetrieved(selectedPrice);
+        return ResolvedPrice.of(selectedPrice, window);
+    }
+
+    @Override
+    public List<PriceLookup> getFinalPrices(List<PriceQuery> queries) {
+        List<PriceWindow> windows = priceOutputPort.findPriceWindows(atPriceResolution(queries));
+
+        List<PriceLookup> lookups = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            lookups.add(new PriceLookup(queries.get(i), windows.get(i).winner().orElse(null)));
+        }
+
+        List<Price> found = lookups.stream()
+                .filter(PriceLookup::found)
+                .map(PriceLookup::price)
+                .toList();
+        if (!found.isEmpty()) {
+            try {
+                priceEventPublisher.publishPricesRetrieved(found);
+                log.info("Eventos de precio recuperado publicados en lote: {} de {} consultas", found.size(), queries.size());
+            } catch (Exception e) {
+                log.error("Error al publicar eventos de precio en lote: {}", e.getMessage(), e);
+            }
+        }
+        return lookups;
+    }
+
     @Override
     public List<Price> getPricesListAll() {
         List<Price> prices = priceOutputPort.findAll();
@@ -65,4 +125,57 @@ public class PriceServiceImpl implements PriceService, PriceInputPort {
         });
         return prices;
     }
+
+    @Override
+    public List<Price> getPricesPage(PriceCursor after, int limit) {
+        List<Price> prices = priceOutputPort.findPage(after, limit);
+
+        if (!prices.isEmpty()) {
+            publishListed(prices);
+        }
+        return prices;
+    }
+
+    /**
+     * Entrega cada tarifa según se lee; los eventos se publican en lotes para no retener más de STREAM_EVENT_BATCH tarifas
+     */
+    @Override
+    public void streamPricesListAll(Consumer<Price> action) {
+        List<Price> pending = new ArrayList<>(STREAM_EVENT_BATCH);
+        priceOutputPort.streamAll(price -> {
+            action.accept(price);
+            pending.add(price);
+            if (pending.size() == STREAM_EVENT_BATCH) {
+                publishListed(List.copyOf(pending));
+                pending.clear();
+            }
+        });
+        if (!pending.isEmpty()) {
+            publishListed(pending);
+        }
+    }
+
+    private static List<PriceQuery> atPriceResolution(List<PriceQuery> queries) {
+        return queries.stream()
+                .map(query -> new PriceQuery(query.productId(), query.brandId(),
+                        PriceDomainService.atPriceResolution(query.date())))
+                .toList();
+    }
+
+    private void publishRetrieved(Price price) {
+        try {
+            priceEventPublisher.publishPriceRetrieved(price);
+            log.info("Evento de precio recuperado publicado para productId: {}, brandId: {}", price.productId(), price.brandId());
+        } catch (Exception e) {
+            log.error("Error al publicar evento de precio recuperado: {}", e.getMessage(), e);
+        }
+    }
+
+    private void publishListed(List<Price> prices) {
+        try {
+            priceEventPublisher.publishPricesRetrieved(prices);
+        } catch (Exception e) {
+            log.error("Error al publicar eventos de precio en lista: {}", e.getMessage(), e);
+        }
+    }
 }
@@ -0,0 +1,123 @@
+package com.test_zara.zara_pricing.application.services.impl;
+
+import com.test_zara.zara_pricing.domain.exceptions.PriceNotFoundException;
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceLookup;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.ports.in.ReactivePriceInputPort;
+import com.test_zara.zara_pricing.domain.ports.out.PriceEventPublisher;
+import com.test_zara.zara_pricing.domain.ports.out.ReactivePriceOutputPort;
+import com.test_zara.zara_pricing.domain.services.PriceDomainService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mismas reglas que {@link PriceServiceImpl} sobre el puerto reactivo. Los eventos se publican en eventScheduler
+ * sin que la respuesta los espere: el hilo del event loop nunca entra en el publicador, que puede bloquear
+ * con la política block o con el productor de Kafka síncrono.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ReactivePriceServiceImpl implements ReactivePriceInputPort {
+
+    /**
+     * Tarifas por lote de eventos al recorrer la tabla completa
+     */
+    static final int LIST_EVENT_BATCH = 500;
+
+    private final ReactivePriceOutputPort priceOutputPort;
+    private final PriceDomainService priceDomainService;
+    private final PriceEventPublisher priceEventPublisher;
+    private final Scheduler eventScheduler;
+
+    @Override
+    public Mono<Price> getFinalPrice(LocalDateTime date, Long productId, Integer brandId) {
+        return priceOutputPort.findFinalPrice(brandId, productId, PriceDomainService.atPriceResolution(date))
+                .switchIfEmpty(Mono.error(() -> new PriceNotFoundException("Price not found for the given criteria")))
+                .doOnNext(this::publishRetrieved);
+    }
+
+    @Override
+    public Mono<Price> getFinalPriceWithConvention(LocalDateTime date, Long productId, Integer brandId) {
+        return priceOutputPort.findFinalPriceWithConvention(brandId, productId, PriceDomainService.atPriceResolution(date))
+                .collectList()
+                .map(priceDomainService::selectHighestPriorityPrice)
+                .doOnNext(this::publishRetrieved);
+    }
+
+    @Override
+    public Mono<List<PriceLookup>> getFinalPrices(List<PriceQuery> queries) {
+        return priceOutputPort.findPriceWindows(atPriceResolution(queries))
+                .map(windows -> {
+                    List<PriceLookup> lookups = new ArrayList<>(queries.size());
+                    for (int i = 0; i < queries.size(); i++) {
+                        PriceWindow window = windows.get(i);
+                        lookups.add(new PriceLookup(queries.get(i), window.winner().orElse(null)));
+                    }
+                    return lookups;
+                })
+                .doOnNext(lookups -> {
+                    List<Price> found = lookups.stream()
+                            .filter(PriceLookup::found)
+                            .map(PriceLookup::price)
+                            .toList();
+                    if (!found.isEmpty()) {
+                        publishListed(found);
+                    }
+                });
+    }
+
+    /**
+     * Entrega cada tarifa según llega; los eventos salen en lotes de LIST_EVENT_BATCH
+     */
+    @Override
+    public Flux<Price> getPricesListAll() {
+        return priceOutputPort.findAll()
+                .buffer(LIST_EVENT_BATCH)
+                .doOnNext(this::publishListed)
+                .flatMapIterable(batch -> batch);
+    }
+
+    @Override
+    public Mono<List<Price>> getPricesPage(PriceCursor after, int limit) {
+        return priceOutputPort.findPage(after, limit)
+                .collectList()
+                .doOnNext(page -> {
+                    if (!page.isEmpty()) {
+                        publishListed(page);
+                    }
+                });
+    }
+
+    private static List<PriceQuery> atPriceResolution(List<PriceQuery> queries) {
+        return queries.stream()
+                .map(query -> new PriceQuery(query.productId(), query.brandId(),
+                        PriceDomainService.atPriceResolution(query.date())))
+                .toList();
+    }
+
+    private void publishRetrieved(Price price) {
+        Mono.fromRunnable(() -> priceEventPublisher.publishPriceRetrieved(price))
+                .subscribeOn(eventScheduler)
+                .subscribe(
+                        null,
+                        e -> log.error("Error al publicar evento de precio recuperado: {}", e.getMessage(), e));
+    }
+
+    private void publishListed(List<Price> prices) {
+        Mono.fromRunnable(() -> priceEventPublisher.publishPricesRetrieved(prices))
+                .subscribeOn(eventScheduler)
+                .subscribe(
+                        null,
+                        e -> log.error("Error al publicar eventos de precio en lista: {}", e.getMessage(), e));
+    }
+}
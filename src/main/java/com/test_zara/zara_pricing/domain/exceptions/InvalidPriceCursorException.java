@@ -0,0 +1,10 @@
+package com.test_zara.zara_pricing.domain.exceptions;
+
+/**
+ * Cursor de paginación que no se puede interpretar; se responde como 400 sin usar la pila
+ */
+public class InvalidPriceCursorException extends RuntimeException {
+    public InvalidPriceCursorException(String message) {
+        super(message, null, false, false);
+    }
+}
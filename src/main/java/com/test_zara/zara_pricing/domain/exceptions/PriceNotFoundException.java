@@ -1,7 +1,10 @@
 package com.test_zara.zara_pricing.domain.exceptions;
 
+/**
+ * Resultado esperado de una búsqueda sin precio: no captura la pila, que se responde como 404 sin usarla
+ */
 public class PriceNotFoundException extends RuntimeException {
     public PriceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 } 
\ No newline at end of file
@@ -11,5 +11,23 @@ public record Price(
         Long productId,
         Integer priority,
         BigDecimal price,
-        String currency
-) {}
+        String currency,
+        Long id
+) {
+
+    /**
+     * Tarifa sin fila de origen: el id solo lo aportan los adaptadores que leen la tabla prices
+     */
+    public Price(
+            Integer brandId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Integer priceList,
+            Long productId,
+            Integer priority,
+            BigDecimal price,
+            String currency
+    ) {
+        this(brandId, startDate, endDate, priceList, productId, priority, price, currency, null);
+    }
+}
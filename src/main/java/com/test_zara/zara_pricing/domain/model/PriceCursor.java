@@ -0,0 +1,51 @@
+package com.test_zara.zara_pricing.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Posición de un recorrido paginado por clave: la última tarifa devuelta en orden (brandId, productId, startDate, priceList, id).
+ * (brandId, productId, startDate, priceList) puede repetirse, así que el id de la fila desempata y ninguna tarifa
+ * se salta ni se repite entre páginas; las tarifas sin id van delante de las que lo tienen.
+ */
+public record PriceCursor(
+        Integer brandId,
+        Long productId,
+        LocalDateTime startDate,
+        Integer priceList,
+        Long id
+) {
+
+    private static final Comparator<Long> ID_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    public static final Comparator<Price> KEY_ORDER = Comparator
+            .comparing(Price::brandId)
+            .thenComparing(Price::productId)
+            .thenComparing(Price::startDate)
+            .thenComparing(Price::priceList)
+            .thenComparing(Price::id, ID_ORDER);
+
+    public static PriceCursor of(Price price) {
+        return new PriceCursor(price.brandId(), price.productId(), price.startDate(), price.priceList(), price.id());
+    }
+
+    /**
+     * Indica si la tarifa va después del cursor y, por tanto, pertenece a la página siguiente
+     */
+    public boolean precedes(Price price) {
+        int compared = brandId.compareTo(price.brandId());
+        if (compared == 0) {
+            compared = productId.compareTo(price.productId());
+        }
+        if (compared == 0) {
+            compared = startDate.compareTo(price.startDate());
+        }
+        if (compared == 0) {
+            compared = priceList.compareTo(price.priceList());
+        }
+        if (compared == 0) {
+            compared = ID_ORDER.compare(id, price.id());
+        }
+        return compared < 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.test_zara.zara_pricing.domain.model;
+
+/**
+ * Resultado de una consulta de un lote; price es null cuando no hay tarifa aplicable
+ */
+public record PriceLookup(
+        PriceQuery query,
+        Price price
+) {
+
+    public boolean found() {
+        return price != null;
+    }
+}
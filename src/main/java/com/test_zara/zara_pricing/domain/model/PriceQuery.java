@@ -0,0 +1,12 @@
+package com.test_zara.zara_pricing.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Una consulta de precio final dentro de un lote
+ */
+public record PriceQuery(
+        Long productId,
+        Integer brandId,
+        LocalDateTime date
+) {}
@@ -0,0 +1,81 @@
+package com.test_zara.zara_pricing.domain.model;
+
+import com.test_zara.zara_pricing.domain.services.PriceDomainService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Tarifas vigentes de un producto en una fecha junto al intervalo [validFrom, validUntil) en el que
+ * ese resultado no cambia: ninguna tarifa del producto empieza ni termina dentro de él.
+ * LocalDateTime.MIN y LocalDateTime.MAX indican que el intervalo no tiene límite por ese lado.
+ */
+public record PriceWindow(
+        List<Price> applicablePrices,
+        LocalDateTime validFrom,
+        LocalDateTime validUntil
+) {
+
+    private static final PriceWindow EMPTY = new PriceWindow(List.of(), LocalDateTime.MIN, LocalDateTime.MAX);
+
+    public PriceWindow {
+        applicablePrices = List.copyOf(applicablePrices);
+    }
+
+    /**
+     * Ventana de un producto sin tarifas: ningún precio en ninguna fecha
+     */
+    public static PriceWindow empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Calcula la ventana de la fecha a partir de todas las tarifas del producto.
+     * Los intervalos de la tabla son cerrados, así que cada tarifa deja de aplicar justo después de endDate.
+     */
+    public static PriceWindow of(Collection<Price> productPrices, LocalDateTime date) {
+        LocalDateTime validFrom = LocalDateTime.MIN;
+        LocalDateTime validUntil = LocalDateTime.MAX;
+        List<Price> applicable = new ArrayList<>();
+
+        for (Price price : productPrices) {
+            LocalDateTime start = price.startDate();
+            LocalDateTime after = price.endDate().equals(LocalDateTime.MAX)
+                    ? LocalDateTime.MAX
+                    : price.endDate().plusNanos(1);
+
+            if (start.isAfter(date)) {
+                validUntil = earliest(validUntil, start);
+            } else if (after.isAfter(date)) {
+                validFrom = latest(validFrom, start);
+                validUntil = earliest(validUntil, after);
+                applicable.add(price);
+            } else {
+                validFrom = latest(validFrom, after);
+            }
+        }
+        return new PriceWindow(applicable, validFrom, validUntil);
+    }
+
+    /**
+     * Tarifa ganadora en cualquier fecha de la ventana
+     */
+    public Optional<Price> winner() {
+        return applicablePrices.stream().max(PriceDomainService.PRICE_PRECEDENCE);
+    }
+
+    public boolean contains(LocalDateTime date) {
+        return !date.isBefore(validFrom) && date.isBefore(validUntil);
+    }
+
+    private static LocalDateTime earliest(LocalDateTime first, LocalDateTime second) {
+        return second.isBefore(first) ? second : first;
+    }
+
+    private static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        return second.isAfter(first) ? second : first;
+    }
+}
@@ -0,0 +1,32 @@
+package com.test_zara.zara_pricing.domain.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Tarifa ganadora para una fecha junto al primer instante posterior en que puede dejar de serlo: la siguiente
+ * frontera (inicio o fin de tarifa) del producto. LocalDateTime.MAX indica que no hay ninguna.
+ */
+public record ResolvedPrice(
+        Price price,
+        LocalDateTime validUntil
+) {
+
+    public static ResolvedPrice of(Price price, PriceWindow window) {
+        return new ResolvedPrice(price, window.validUntil());
+    }
+
+    /**
+     * Tiempo que el resultado sigue siendo el mismo a partir de date, acotado por max
+     */
+    public Duration remainingAfter(LocalDateTime date, Duration max) {
+        if (validUntil.equals(LocalDateTime.MAX)) {
+            return max;
+        }
+        Duration remaining = Duration.between(date, validUntil);
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(max) < 0 ? remaining : max;
+    }
+}
@@ -2,9 +2,14 @@ package com.test_zara.zara_pricing.domain.ports.in;
 
 
 import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceLookup;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.ResolvedPrice;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PriceInputPort {
 
@@ -12,5 +17,21 @@ public interface PriceInputPort {
 
     Price getFinalPriceWithConvention(LocalDateTime date, Long productId, Integer brandId);
 
+    /**
+     * Como getFinalPrice, con el instante hasta el que el resultado es válido
+     */
+    ResolvedPrice resolveFinalPrice(LocalDateTime date, Long productId, Integer brandId);
+
+    /**
+     * Como getFinalPriceWithConvention, con el instante hasta el que el resultado es válido
+     */
+    ResolvedPrice resolveFinalPriceWithConvention(LocalDateTime date, Long productId, Integer brandId);
+
+    List<PriceLookup> getFinalPrices(List<PriceQuery> queries);
+
     List<Price> getPricesListAll();
+
+    List<Price> getPricesPage(PriceCursor after, int limit);
+
+    void streamPricesListAll(Consumer<Price> action);
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.test_zara.zara_pricing.domain.ports.in;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceLookup;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReactivePriceInputPort {
+
+    Mono<Price> getFinalPrice(LocalDateTime date, Long productId, Integer brandId);
+
+    Mono<Price> getFinalPriceWithConvention(LocalDateTime date, Long productId, Integer brandId);
+
+    Mono<List<PriceLookup>> getFinalPrices(List<PriceQuery> queries);
+
+    Flux<Price> getPricesListAll();
+
+    Mono<List<Price>> getPricesPage(PriceCursor after, int limit);
+}
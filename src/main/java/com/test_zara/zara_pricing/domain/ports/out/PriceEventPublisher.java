@@ -2,6 +2,10 @@ package com.test_zara.zara_pricing.domain.ports.out;
 
 import com.test_zara.zara_pricing.domain.model.Price;
 
+import java.util.List;
+
 public interface PriceEventPublisher {
     void publishPriceRetrieved(Price price);
+
+    void publishPricesRetrieved(List<Price> prices);
 } 
\ No newline at end of file
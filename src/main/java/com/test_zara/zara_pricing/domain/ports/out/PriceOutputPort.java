@@ -1,9 +1,13 @@
 package com.test_zara.zara_pricing.domain.ports.out;
 
 import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface PriceOutputPort {
 
@@ -19,5 +23,29 @@ public interface PriceOutputPort {
             LocalDateTime date
     );
 
+    /**
+     * Tarifas vigentes en la fecha y el intervalo a su alrededor en el que no cambian
+     */
+    PriceWindow findPriceWindow(
+            Integer brandId,
+            Long productId,
+            LocalDateTime date
+    );
+
+    /**
+     * Ventanas de un lote de consultas, en el mismo orden, resueltas con una sola lectura
+     */
+    List<PriceWindow> findPriceWindows(List<PriceQuery> queries);
+
     List<Price> findAll();
+
+    /**
+     * Hasta limit tarifas posteriores al cursor en {@link PriceCursor#KEY_ORDER}; con after null, desde el principio
+     */
+    List<Price> findPage(PriceCursor after, int limit);
+
+    /**
+     * Recorre todas las tarifas en {@link PriceCursor#KEY_ORDER} sin materializar la tabla en memoria
+     */
+    void streamAll(Consumer<Price> action);
 }
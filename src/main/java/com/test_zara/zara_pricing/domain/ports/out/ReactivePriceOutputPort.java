@@ -0,0 +1,37 @@
+package com.test_zara.zara_pricing.domain.ports.out;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Contraparte no bloqueante de {@link PriceOutputPort} para el perfil reactive: mismas consultas, con los
+ * resultados entregados según llegan de la base de datos
+ */
+public interface ReactivePriceOutputPort {
+
+    Mono<Price> findFinalPrice(Integer brandId, Long productId, LocalDateTime date);
+
+    Flux<Price> findFinalPriceWithConvention(Integer brandId, Long productId, LocalDateTime date);
+
+    /**
+     * Ventana de cada consulta, en el mismo orden que las consultas
+     */
+    Mono<List<PriceWindow>> findPriceWindows(List<PriceQuery> queries);
+
+    /**
+     * Todas las tarifas en orden de clave (brandId, productId, startDate, priceList)
+     */
+    Flux<Price> findAll();
+
+    /**
+     * Como mucho limit tarifas en orden de clave, a partir de la siguiente a after; sin cursor, desde el principio
+     */
+    Flux<Price> findPage(PriceCursor after, int limit);
+}
@@ -5,19 +5,45 @@ import com.test_zara.zara_pricing.domain.exceptions.PriceNotFoundException;
 import com.test_zara.zara_pricing.domain.model.Price;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.List;
 
 @Service
 public class PriceDomainService {
 
+    /**
+     * Orden de precedencia entre tarifas solapadas: gana la de mayor prioridad y,
+     * a igual prioridad, la que empieza más tarde y después la de mayor price list.
+     * La tabla no impide filas con esos tres campos repetidos, así que el orden sigue por fecha de fin, importe
+     * y moneda: dos tarifas solo empatan si son iguales y el resultado no depende del orden de las filas.
+     * Las consultas SQL ordenan por las mismas columnas, todas descendentes.
+     */
+    public static final Comparator<Price> PRICE_PRECEDENCE = Comparator
+            .comparingInt(Price::priority)
+            .thenComparing(Price::startDate)
+            .thenComparingInt(Price::priceList)
+            .thenComparing(Price::endDate)
+            .thenComparing(Price::price)
+            .thenComparing(Price::currency);
+
+    /**
+     * Las tarifas tienen resolución de segundos. Las fracciones de la fecha pedida se descartan antes de consultar,
+     * para que BETWEEN en SQL, el índice en memoria en segundos epoch y {@link com.test_zara.zara_pricing.domain.model.PriceWindow}
+     * resuelvan la misma fecha: sin esto, 23:59:59.5 cae dentro de una tarifa que acaba a las 23:59:59 solo en memoria.
+     */
+    public static LocalDateTime atPriceResolution(LocalDateTime date) {
+        return date == null ? null : date.truncatedTo(ChronoUnit.SECONDS);
+    }
+
     public Price selectHighestPriorityPrice(List<Price> prices) {
         if (prices == null || prices.isEmpty()) {
             throw new PriceNotFoundException("No prices available for selection");
         }
 
         return prices.stream()
-                .max(Comparator.comparingInt(Price::priority))
+                .max(PRICE_PRECEDENCE)
                 .orElseThrow();
     }
 }
\ No newline at end of file
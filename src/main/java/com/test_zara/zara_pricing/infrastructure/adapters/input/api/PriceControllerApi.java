@@ -1,33 +1,52 @@
 package com.test_zara.zara_pricing.infrastructure.adapters.input.api;
 
+import com.test_zara.zara_pricing.infrastructure.dto.PriceBatchItemResponse;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceBatchRequest;
 import com.test_zara.zara_pricing.infrastructure.dto.PriceResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PriceControllerApi {
 
+    String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    String NDJSON_VALUE = "application/x-ndjson";
+
+    int MAX_PAGE_SIZE = 1000;
+
     @Operation(
             summary = "Obtener precio aplicable",
-            description = "Devuelve el precio activo para un producto en una fecha específica",
+            description = "Devuelve el precio activo para un producto en una fecha específica; la respuesta lleva "
+                    + "ETag y Cache-Control; si la fecha es la actual, max-age llega hasta la siguiente frontera de tarifa "
+                    + "del producto y, si no, es pricing.http.max-age-cap",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
                             description = "Precio encontrado",
                             content = @Content(schema = @Schema(implementation = PriceResponse.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "El ETag de If-None-Match sigue siendo el precio vigente"
                     )})
     @GetMapping("/final-price")
-    ResponseEntity<PriceResponse> getFinalPrice(
+    ResponseEntity<byte[]> getFinalPrice(
             @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime date,
             @RequestParam @NotNull @Positive Long productId,
             @RequestParam @NotNull @Positive Integer brandId);
@@ -35,19 +54,40 @@ public interface PriceControllerApi {
 
     @Operation(
             summary = "Obtener precio aplicable",
-            description = "Devuelve el precio activo para un producto en una fecha específica",
+            description = "Devuelve el precio activo para un producto en una fecha específica; la respuesta lleva "
+                    + "ETag y Cache-Control; si la fecha es la actual, max-age llega hasta la siguiente frontera de tarifa "
+                    + "del producto y, si no, es pricing.http.max-age-cap",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
                             description = "Precio encontrado",
                             content = @Content(schema = @Schema(implementation = PriceResponse.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "El ETag de If-None-Match sigue siendo el precio vigente"
                     )})
     @GetMapping("/final-price-convention")
-    ResponseEntity<PriceResponse> getFinalPriceWithConvention(
+    ResponseEntity<byte[]> getFinalPriceWithConvention(
             @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime date,
             @RequestParam @NotNull @Positive Long productId,
             @RequestParam @NotNull @Positive Integer brandId);
 
+    @Operation(
+            summary = "Obtener precios aplicables en lote",
+            description = "Resuelve varias consultas (producto, marca, fecha) en una sola llamada; "
+                    + "las que no tienen precio se devuelven con found=false",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Resultado por consulta, en el mismo orden",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = PriceBatchItemResponse.class, type = "array")))})
+    @PostMapping("/final-prices")
+    ResponseEntity<List<PriceBatchItemResponse>> getFinalPrices(
+            @RequestBody @Valid PriceBatchRequest request);
+
     @Operation(
             summary = "Obtener lista completa de precios",
             description = "Devuelve todos los precios disponibles",
@@ -60,4 +100,31 @@ public interface PriceControllerApi {
                                     schema = @Schema(implementation = PriceResponse.class, type = "array")))})
     @GetMapping("/price-list-all")
     ResponseEntity<List<PriceResponse>> getPricesListAll();
+
+    @Operation(
+            summary = "Obtener una página de la lista de precios",
+            description = "Paginación por clave (marca, producto, fecha de inicio, tarifa): la cabecera "
+                    + NEXT_CURSOR_HEADER + " trae el cursor de la página siguiente mientras queden precios",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Página de precios obtenida exitosamente",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = PriceResponse.class, type = "array")))})
+    @GetMapping(value = "/price-list-all", params = {"limit", "!format"})
+    ResponseEntity<List<PriceResponse>> getPricesPage(
+            @RequestParam(required = false) String after,
+            @RequestParam @NotNull @Positive @Max(MAX_PAGE_SIZE) Integer limit);
+
+    @Operation(
+            summary = "Exportar la lista completa de precios en streaming",
+            description = "Devuelve todos los precios como NDJSON, un objeto por línea, leyendo la tabla con un cursor",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Precios en NDJSON",
+                            content = @Content(mediaType = NDJSON_VALUE))})
+    @GetMapping(value = "/price-list-all", params = "format=ndjson", produces = NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> streamPricesListAll();
 }
@@ -0,0 +1,57 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.input.api;
+
+import com.test_zara.zara_pricing.infrastructure.dto.PriceBatchItemResponse;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceBatchRequest;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.test_zara.zara_pricing.infrastructure.adapters.input.api.PriceControllerApi.MAX_PAGE_SIZE;
+import static com.test_zara.zara_pricing.infrastructure.adapters.input.api.PriceControllerApi.NDJSON_VALUE;
+
+/**
+ * Mismos endpoints y contratos que {@link PriceControllerApi} para el perfil reactive; la documentación OpenAPI
+ * sigue en la API servlet
+ */
+public interface ReactivePriceControllerApi {
+
+    @GetMapping("/final-price")
+    Mono<ResponseEntity<PriceResponse>> getFinalPrice(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime date,
+            @RequestParam @NotNull @Positive Long productId,
+            @RequestParam @NotNull @Positive Integer brandId);
+
+    @GetMapping("/final-price-convention")
+    Mono<ResponseEntity<PriceResponse>> getFinalPriceWithConvention(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm:ss") LocalDateTime date,
+            @RequestParam @NotNull @Positive Long productId,
+            @RequestParam @NotNull @Positive Integer brandId);
+
+    @PostMapping("/final-prices")
+    Mono<ResponseEntity<List<PriceBatchItemResponse>>> getFinalPrices(
+            @RequestBody @Valid PriceBatchRequest request);
+
+    @GetMapping("/price-list-all")
+    Flux<PriceResponse> getPricesListAll();
+
+    @GetMapping(value = "/price-list-all", params = {"limit", "!format"})
+    Mono<ResponseEntity<List<PriceResponse>>> getPricesPage(
+            @RequestParam(required = false) String after,
+            @RequestParam @NotNull @Positive @Max(MAX_PAGE_SIZE) Integer limit);
+
+    @GetMapping(value = "/price-list-all", params = "format=ndjson", produces = NDJSON_VALUE)
+    Flux<PriceResponse> streamPricesListAll();
+}
@@ -1,22 +1,42 @@
 package com.test_zara.zara_pricing.infrastructure.adapters.input.rest;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.ResolvedPrice;
 import com.test_zara.zara_pricing.domain.ports.in.PriceInputPort;
 import com.test_zara.zara_pricing.infrastructure.adapters.input.api.PriceControllerApi;
 import com.test_zara.zara_pricing.infrastructure.mappers.PriceMapper;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceBatchItemResponse;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceBatchRequest;
 import com.test_zara.zara_pricing.infrastructure.dto.PriceResponse;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/v1/rest/prices")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @Validated
 @Slf4j
@@ -27,21 +47,48 @@ public class PriceController implements PriceControllerApi {
 
     private final PriceMapper priceMapper;
 
+    private final ObjectMapper objectMapper;
+
+    private final PriceResponseCache priceResponseCache;
+
+    private final Clock clock;
+
+    @Value("${pricing.http.max-age-cap}")
+    private Duration maxAgeCap;
+
+    @Value("${pricing.http.live-tolerance:5m}")
+    private Duration liveTolerance;
+
     @Override
-    public ResponseEntity<PriceResponse> getFinalPrice(LocalDateTime date, Long productId, Integer brandId) {
+    public ResponseEntity<byte[]> getFinalPrice(LocalDateTime date, Long productId, Integer brandId) {
         log.info("Requesting final price for productId: {}, brandId: {}, date: {}", productId, brandId, date);
 
-        return ResponseEntity.ok(
-                priceMapper.toDto(priceInputPort.getFinalPrice(date, productId, brandId))
-        );
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (isLive(date, now)) {
+            ResolvedPrice resolved = priceInputPort.resolveFinalPrice(date, productId, brandId);
+            return cacheable(resolved.price(), resolved.remainingAfter(now, maxAgeCap));
+        }
+        return cacheable(priceInputPort.getFinalPrice(date, productId, brandId), maxAgeCap);
     }
 
     @Override
-    public ResponseEntity<PriceResponse> getFinalPriceWithConvention(LocalDateTime date, Long productId, Integer brandId) {
+    public ResponseEntity<byte[]> getFinalPriceWithConvention(LocalDateTime date, Long productId, Integer brandId) {
         log.info("Requesting final price with convention for productId: {}, brandId: {}, date: {}", productId, brandId, date);
 
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (isLive(date, now)) {
+            ResolvedPrice resolved = priceInputPort.resolveFinalPriceWithConvention(date, productId, brandId);
+            return cacheable(resolved.price(), resolved.remainingAfter(now, maxAgeCap));
+        }
+        return cacheable(priceInputPort.getFinalPriceWithConvention(date, productId, brandId), maxAgeCap);
+    }
+
+    @Override
+    public ResponseEntity<List<PriceBatchItemResponse>> getFinalPrices(PriceBatchRequest request) {
+        log.info("Requesting final prices for {} items", request.getItems().size());
+
         return ResponseEntity.ok(
-                priceMapper.toDto(priceInputPort.getFinalPriceWithConvention(date, productId, brandId))
+                priceMapper.toBatchDto(priceInputPort.getFinalPrices(priceMapper.toQueries(request.getItems())))
         );
     }
 
@@ -53,4 +100,68 @@ public class PriceController implements PriceControllerApi {
                 priceMapper.toDto(priceInputPort.getPricesListAll())
         );
     }
+
+    @Override
+    public ResponseEntity<List<PriceResponse>> getPricesPage(String after, Integer limit) {
+        log.info("Requesting prices page after: {}, limit: {}", after, limit);
+
+        List<Price> page = priceInputPort.getPricesPage(priceMapper.toCursor(after), limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.size() == limit) {
+            response.header(NEXT_CURSOR_HEADER, priceMapper.toCursorToken(PriceCursor.of(page.get(page.size() - 1))));
+        }
+        return response.body(priceMapper.toDto(page));
+    }
+
+    /**
+     * Cada tarifa se escribe en la respuesta según llega del cursor, sin vaciar el búfer del generador en cada línea
+     */
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamPricesListAll() {
+        log.info("Streaming all prices list");
+
+        ObjectWriter writer = objectMapper.writerFor(PriceResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = output -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(output)) {
+                generator.setRootValueSeparator(null);
+                priceInputPort.streamPricesListAll(price -> writeLine(generator, writer, priceMapper.toDto(price)));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
+    }
+
+    /**
+     * Una fecha cercana al reloj suele ser "el precio de ahora", que deja de serlo en la siguiente frontera de tarifa.
+     * Cualquier otra fecha es un instante fijo cuya respuesta no cambia con el tiempo, así que no hace falta cargar
+     * la ventana del producto
+     */
+    private boolean isLive(LocalDateTime date, LocalDateTime now) {
+        return Duration.between(now, date).abs().compareTo(liveTolerance) <= 0;
+    }
+
+    /**
+     * JSON ya codificado con ETag fuerte de la tarifa, ambos de {@link PriceResponseCache}, y el max-age indicado:
+     * hasta la siguiente frontera contada desde ahora para fechas cercanas al reloj, y pricing.http.max-age-cap para
+     * el resto. Si If-None-Match coincide con el ETag, Spring responde 304 sin escribir el cuerpo
+     */
+    private ResponseEntity<byte[]> cacheable(Price price, Duration maxAge) {
+        PriceResponseCache.EncodedPrice encoded = priceResponseCache.encode(price);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(encoded.etag())
+                .cacheControl(CacheControl.maxAge(maxAge.toSeconds(), TimeUnit.SECONDS))
+                .body(encoded.body());
+    }
+
+    private static void writeLine(JsonGenerator generator, ObjectWriter writer, PriceResponse price) {
+        try {
+            writer.writeValue(generator, price);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.input.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceResponse;
+import com.test_zara.zara_pricing.infrastructure.mappers.PriceMapper;
+import org.springframework.util.DigestUtils;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON ya codificado de {@link PriceResponse} y su ETag por tarifa resuelta.
+ * La clave es la propia {@link Price}, con todos sus campos: si cambian los datos de una tarifa la clave es
+ * otra, así que nunca se sirven bytes de una versión anterior; las entradas que dejan de pedirse las desaloja
+ * Caffeine por tamaño. Los arrays devueltos son compartidos y no deben modificarse.
+ */
+public class PriceResponseCache {
+
+    private final Cache<Price, EncodedPrice> cache;
+
+    private final PriceMapper priceMapper;
+
+    private final ObjectWriter writer;
+
+    public PriceResponseCache(Cache<Price, EncodedPrice> cache, PriceMapper priceMapper, ObjectMapper objectMapper) {
+        this.cache = cache;
+        this.priceMapper = priceMapper;
+        this.writer = objectMapper.writerFor(PriceResponse.class);
+    }
+
+    public EncodedPrice encode(Price price) {
+        return cache.get(price, this::serialize);
+    }
+
+    private EncodedPrice serialize(Price price) {
+        try {
+            return new EncodedPrice(writer.writeValueAsBytes(priceMapper.toDto(price)), etagOf(price));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Identidad completa de la tarifa: cambia si cambia cualquier campo, aunque el importe sea el mismo
+     */
+    private static String etagOf(Price price) {
+        String identity = price.brandId() + "|" + price.productId() + "|" + price.priceList() + "|"
+                + price.startDate() + "|" + price.endDate() + "|" + price.priority() + "|"
+                + price.price().toPlainString() + "|" + price.currency();
+        return DigestUtils.md5DigestAsHex(identity.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Cuerpo JSON de la tarifa y su ETag fuerte, sin comillas
+     */
+    public record EncodedPrice(byte[] body, String etag) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.input.rest;
+
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.ports.in.ReactivePriceInputPort;
+import com.test_zara.zara_pricing.infrastructure.adapters.input.api.ReactivePriceControllerApi;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceBatchItemResponse;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceBatchRequest;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceResponse;
+import com.test_zara.zara_pricing.infrastructure.mappers.PriceMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.test_zara.zara_pricing.infrastructure.adapters.input.api.PriceControllerApi.NEXT_CURSOR_HEADER;
+
+/**
+ * Contraparte WebFlux de {@link PriceController}; solo se registra cuando la aplicación arranca como reactiva
+ * (perfil reactive)
+ */
+@RestController
+@RequestMapping("/api/v1/rest/prices")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Validated
+@Slf4j
+public class ReactivePriceController implements ReactivePriceControllerApi {
+
+    private final ReactivePriceInputPort priceInputPort;
+
+    private final PriceMapper priceMapper;
+
+    @Override
+    public Mono<ResponseEntity<PriceResponse>> getFinalPrice(LocalDateTime date, Long productId, Integer brandId) {
+        log.info("Requesting final price for productId: {}, brandId: {}, date: {}", productId, brandId, date);
+
+        return priceInputPort.getFinalPrice(date, productId, brandId)
+                .map(priceMapper::toDto)
+                .map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<PriceResponse>> getFinalPriceWithConvention(LocalDateTime date, Long productId, Integer brandId) {
+        log.info("Requesting final price with convention for productId: {}, brandId: {}, date: {}", productId, brandId, date);
+
+        return priceInputPort.getFinalPriceWithConvention(date, productId, brandId)
+                .map(priceMapper::toDto)
+                .map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<List<PriceBatchItemResponse>>> getFinalPrices(PriceBatchRequest request) {
+        log.info("Requesting final prices for {} items", request.getItems().size());
+
+        return priceInputPort.getFinalPrices(priceMapper.toQueries(request.getItems()))
+                .map(priceMapper::toBatchDto)
+                .map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Flux<PriceResponse> getPricesListAll() {
+        log.info("Requesting all prices list");
+
+        return priceInputPort.getPricesListAll().map(priceMapper::toDto);
+    }
+
+    @Override
+    public Mono<ResponseEntity<List<PriceResponse>>> getPricesPage(String after, Integer limit) {
+        log.info("Requesting prices page after: {}, limit: {}", after, limit);
+
+        return priceInputPort.getPricesPage(priceMapper.toCursor(after), limit)
+                .map(page -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                    if (page.size() == limit) {
+                        response.header(NEXT_CURSOR_HEADER, priceMapper.toCursorToken(PriceCursor.of(page.getLast())));
+                    }
+                    return response.body(priceMapper.toDto(page));
+                });
+    }
+
+    /**
+     * El codificador de Jackson escribe un objeto por línea según llegan las filas del cursor
+     */
+    @Override
+    public Flux<PriceResponse> streamPricesListAll() {
+        log.info("Streaming all prices list");
+
+        return priceInputPort.getPricesListAll().map(priceMapper::toDto);
+    }
+}
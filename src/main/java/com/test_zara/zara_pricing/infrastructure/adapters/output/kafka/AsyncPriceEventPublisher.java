@@ -0,0 +1,231 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.kafka;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.ports.out.PriceEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publicador que desacopla la petición HTTP de Kafka.
+ * Los precios se encolan en una cola acotada y un hilo dedicado los vacía por lotes hacia el publicador real,
+ * de modo que una lectura solo paga un offer sobre la cola. Cuando la cola se llena se aplica la
+ * {@link OverflowPolicy} configurada.
+ */
+@Slf4j
+public class AsyncPriceEventPublisher implements PriceEventPublisher, AutoCloseable {
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    /**
+     * Qué hacer con un evento cuando la cola no tiene hueco
+     */
+    public enum OverflowPolicy {
+        /** Descarta el evento */
+        DROP,
+        /** Por encima de media cola solo acepta uno de cada sampleRate eventos; con la cola llena descarta */
+        SAMPLE,
+        /** Espera hueco como mucho blockTimeout y después descarta */
+        BLOCK
+    }
+
+    private final PriceEventPublisher delegate;
+
+    private final BlockingQueue<Price> queue;
+
+    private final int capacity;
+
+    private final int batchSize;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final int sampleRate;
+
+    private final Duration blockTimeout;
+
+    private final Duration shutdownTimeout;
+
+    private final AtomicLong sampleSequence = new AtomicLong();
+
+    private final LongAdder enqueued = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder published = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder batches = new LongAdder();
+
+    private volatile boolean running;
+
+    private Thread drainer;
+
+    public AsyncPriceEventPublisher(
+            PriceEventPublisher delegate,
+            int capacity,
+            int batchSize,
+            OverflowPolicy overflowPolicy,
+            int sampleRate,
+            Duration blockTimeout,
+            Duration shutdownTimeout
+    ) {
+        if (capacity <= 0 || batchSize <= 0 || sampleRate <= 0) {
+            throw new IllegalArgumentException("capacity, batchSize y sampleRate deben ser positivos");
+        }
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
+        this.blockTimeout = blockTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    /**
+     * Arranca el hilo que vacía la cola. Es de plataforma también con hilos virtuales activos: pasa su vida dentro
+     * del productor de Kafka, que bloquea en monitores, y un único hilo de larga duración no gana nada al ser virtual
+     */
+    public synchronized void start() {
+        if (drainer != null) {
+            return;
+        }
+        running = true;
+        drainer = Thread.ofPlatform()
+                .name("price-events-drainer")
+                .daemon()
+                .start(this::drain);
+    }
+
+    @Override
+    public void publishPriceRetrieved(Price price) {
+        enqueue(price);
+    }
+
+    @Override
+    public void publishPricesRetrieved(List<Price> prices) {
+        prices.forEach(this::enqueue);
+    }
+
+    /**
+     * Deja de aceptar eventos y publica lo que queda en la cola, esperando como mucho shutdownTimeout
+     */
+    @Override
+    public void close() {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = drainer;
+        }
+        if (current == null) {
+            return;
+        }
+        try {
+            current.join(shutdownTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (current.isAlive()) {
+            current.interrupt();
+        }
+        int pending = queue.size();
+        if (pending > 0) {
+            dropped.add(pending);
+            queue.clear();
+            log.warn("Eventos de precio descartados al cerrar: {}", pending);
+        }
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long enqueuedCount() {
+        return enqueued.sum();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public long publishedCount() {
+        return published.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    public long batchCount() {
+        return batches.sum();
+    }
+
+    private void enqueue(Price price) {
+        boolean accepted = running && switch (overflowPolicy) {
+            case DROP -> queue.offer(price);
+            case SAMPLE -> sampled() && queue.offer(price);
+            case BLOCK -> offerWaiting(price);
+        };
+        if (accepted) {
+            enqueued.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    private boolean sampled() {
+        return queue.size() < capacity / 2 || sampleSequence.getAndIncrement() % sampleRate == 0;
+    }
+
+    private boolean offerWaiting(Price price) {
+        try {
+            return queue.offer(price, blockTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drain() {
+        List<Price> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            Price first;
+            try {
+                first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            publishBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void publishBatch(List<Price> batch) {
+        try {
+            delegate.publishPricesRetrieved(List.copyOf(batch));
+            published.add(batch.size());
+            batches.increment();
+        } catch (Exception e) {
+            failed.add(batch.size());
+            log.error("Error al publicar lote de eventos de precio: eventos={}, error={}", batch.size(), e.getMessage(), e);
+        }
+    }
+}
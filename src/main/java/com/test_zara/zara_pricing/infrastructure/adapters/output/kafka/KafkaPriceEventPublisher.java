@@ -2,25 +2,43 @@ package com.test_zara.zara_pricing.infrastructure.adapters.output.kafka;
 
 import com.test_zara.zara_pricing.domain.ports.out.PriceEventPublisher;
 import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.spool.PricingEventSpool;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.spool.SpoolReplayer;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.spool.SpooledPricingEvent;
 import com.test_zara.zara_pricing.infrastructure.avro.PriceChangeType;
 import com.test_zara.zara_pricing.infrastructure.avro.PricingEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+/**
+ * Publicador de eventos de precio en Kafka con Avro.
+ * Todos los envíos pasan por un {@link PublisherCircuitBreaker}: con el broker o el schema registry caídos
+ * no se llama al productor y el evento va al {@link PricingEventSpool}, igual que los envíos que fallan.
+ * Mientras el spool tenga eventos pendientes los nuevos también se guardan en él, para que el reenvío conserve el orden;
+ * el {@link SpoolReplayer} acelera con el atasco hasta pricing.events.spool.max-replay-rate eventos por segundo.
+ */
 @Component
+@Qualifier("broker")
 @RequiredArgsConstructor
 @Slf4j
 public class KafkaPriceEventPublisher implements PriceEventPublisher {
 
     private final KafkaTemplate<String, PricingEvent> kafkaTemplate;
 
+    private final PublisherCircuitBreaker circuitBreaker;
+
+    private final PricingEventSpool spool;
+
     @Value("${kafka.topics.pricing-events}")
     private String pricingEventsTopic;
 
@@ -29,28 +47,54 @@ public class KafkaPriceEventPublisher implements PriceEventPublisher {
      */
     @Override
     public void publishPriceRetrieved(Price price) {
-        try {
-            PricingEvent event = buildPricingEvent(price, PriceChangeType.NEW_PRODUCT);
-            String key = price.productId() + "-" + price.brandId();
-
-            CompletableFuture<SendResult<String, PricingEvent>> future = 
-                kafkaTemplate.send(pricingEventsTopic, key, event);
-
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    log.info("Evento de precio publicado exitosamente: topic={}, partition={}, offset={}, key={}",
-                            result.getRecordMetadata().topic(),
-                            result.getRecordMetadata().partition(),
-                            result.getRecordMetadata().offset(),
-                            key);
-                } else {
-                    log.error("Error al publicar evento de precio: key={}, error={}", key, ex.getMessage(), ex);
-                }
-            });
+        publishPriceEvent(price, PriceChangeType.NEW_PRODUCT);
+    }
 
-        } catch (Exception e) {
-            log.error("Error al crear evento de precio: {}", e.getMessage(), e);
+    /**
+     * Publica en bloque los eventos de un lote de precios recuperados.
+     * Los envíos se encolan seguidos para que el productor los agrupe y el resultado se registra una sola vez.
+     */
+    @Override
+    public void publishPricesRetrieved(List<Price> prices) {
+        long timestamp = Instant.now().toEpochMilli();
+        List<SpooledPricingEvent> events = prices.stream()
+                .map(price -> new SpooledPricingEvent(keyOf(price), buildPricingEvent(price, PriceChangeType.NEW_PRODUCT, timestamp)))
+                .toList();
+        if (spool.hasPending() || !circuitBreaker.tryAcquire()) {
+            events.forEach(this::spool);
+            return;
+        }
+        List<CompletableFuture<SendResult<String, PricingEvent>>> futures = new ArrayList<>(events.size());
+        long startedAt = circuitBreaker.startCall();
+
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                futures.add(send(events.get(i)));
+            } catch (Exception e) {
+                log.error("Error al enviar evento de precio: {}", e.getMessage(), e);
+                circuitBreaker.onFailure();
+                events.subList(i, events.size()).forEach(this::spool);
+                return;
+            }
+        }
+        boolean slow = circuitBreaker.isSlowCall(startedAt);
+        if (slow) {
+            circuitBreaker.onFailure();
         }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((ignored, ex) -> {
+                    long failed = futures.stream().filter(CompletableFuture::isCompletedExceptionally).count();
+                    if (failed == 0) {
+                        log.info("Lote de eventos de precio publicado: topic={}, eventos={}", pricingEventsTopic, futures.size());
+                    } else {
+                        log.error("Lote de eventos de precio publicado con errores: topic={}, eventos={}, fallidos={}, error={}",
+                                pricingEventsTopic, futures.size(), failed, ex.getMessage());
+                    }
+                    if (!slow) {
+                        recordOutcome(ex);
+                    }
+                });
     }
 
     /**
@@ -71,12 +115,18 @@ public class KafkaPriceEventPublisher implements PriceEventPublisher {
      * Método privado para publicar eventos con tipo específico
      */
     private void publishPriceEvent(Price price, PriceChangeType changeType) {
+        SpooledPricingEvent event = new SpooledPricingEvent(keyOf(price), buildPricingEvent(price, changeType));
+        if (spool.hasPending() || !circuitBreaker.tryAcquire()) {
+            spool(event);
+            return;
+        }
+        long startedAt = circuitBreaker.startCall();
         try {
-            PricingEvent event = buildPricingEvent(price, changeType);
-            String key = price.productId() + "-" + price.brandId();
-
-            CompletableFuture<SendResult<String, PricingEvent>> future = 
-                kafkaTemplate.send(pricingEventsTopic, key, event);
+            CompletableFuture<SendResult<String, PricingEvent>> future = send(event);
+            boolean slow = circuitBreaker.isSlowCall(startedAt);
+            if (slow) {
+                circuitBreaker.onFailure();
+            }
 
             future.whenComplete((result, ex) -> {
                 if (ex == null) {
@@ -84,14 +134,53 @@ public class KafkaPriceEventPublisher implements PriceEventPublisher {
                             result.getRecordMetadata().topic(),
                             result.getRecordMetadata().partition(),
                             result.getRecordMetadata().offset(),
-                            key);
+                            event.key());
                 } else {
-                    log.error("Error al publicar evento de precio: key={}, error={}", key, ex.getMessage(), ex);
+                    log.error("Error al publicar evento de precio: key={}, error={}", event.key(), ex.getMessage(), ex);
+                }
+                if (!slow) {
+                    recordOutcome(ex);
                 }
             });
 
         } catch (Exception e) {
-            log.error("Error al crear evento de precio: {}", e.getMessage(), e);
+            log.error("Error al enviar evento de precio: {}", e.getMessage(), e);
+            circuitBreaker.onFailure();
+            spool(event);
+        }
+    }
+
+    /**
+     * Envía el evento y, si el broker no lo confirma, lo guarda en el spool para reenviarlo
+     */
+    private CompletableFuture<SendResult<String, PricingEvent>> send(SpooledPricingEvent event) {
+        return kafkaTemplate.send(pricingEventsTopic, event.key(), event.event())
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        spool(event);
+                    }
+                });
+    }
+
+    private void spool(SpooledPricingEvent event) {
+        if (!spool.isEnabled()) {
+            return;
+        }
+        try {
+            spool.append(event.encode());
+        } catch (RuntimeException e) {
+            log.error("No se ha podido guardar el evento de precio en el spool: key={}, error={}", event.key(), e.getMessage());
+        }
+    }
+
+    /**
+     * Un envío lento ya cuenta como fallo al volver de send; el resto se anota al completarse en el broker
+     */
+    private void recordOutcome(Throwable ex) {
+        if (ex == null) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onFailure();
         }
     }
 
@@ -99,6 +188,10 @@ public class KafkaPriceEventPublisher implements PriceEventPublisher {
      * Construye un evento de pricing desde un objeto Price del dominio
      */
     private PricingEvent buildPricingEvent(Price price, PriceChangeType changeType) {
+        return buildPricingEvent(price, changeType, Instant.now().toEpochMilli());
+    }
+
+    private PricingEvent buildPricingEvent(Price price, PriceChangeType changeType, long timestamp) {
         return PricingEvent.newBuilder()
                 .setProductId(price.productId().toString())
                 .setProductName("Product-" + price.productId()) // Nombre genérico basado en ID
@@ -106,9 +199,13 @@ public class KafkaPriceEventPublisher implements PriceEventPublisher {
                 .setNewPrice(price.price().doubleValue())
                 .setCurrency(price.currency())
                 .setChangeType(changeType)
-                .setTimestamp(Instant.now().toEpochMilli())
+                .setTimestamp(timestamp)
                 .setStoreId(null) // No tenemos storeId en el modelo actual
                 .setCategory("ROPA") // Categoría por defecto
                 .build();
     }
-} 
\ No newline at end of file
+
+    private static String keyOf(Price price) {
+        return price.productId() + "-" + price.brandId();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.kafka;
+
+import com.test_zara.zara_pricing.infrastructure.avro.PriceReadSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Publica en Kafka los resúmenes de lecturas del {@link PriceReadAggregator}.
+ * Comparte el {@link PublisherCircuitBreaker} del productor de eventos: con el broker caído cada envío falla al
+ * momento y el agregador conserva los contadores para el siguiente vaciado.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.events.reads.mode", havingValue = "aggregated")
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaPriceReadSummaryPublisher implements PriceReadAggregator.SummarySink {
+
+    private final KafkaTemplate<String, PriceReadSummary> priceReadSummaryKafkaTemplate;
+
+    private final PublisherCircuitBreaker circuitBreaker;
+
+    @Value("${kafka.topics.pricing-read-summaries}")
+    private String pricingReadSummariesTopic;
+
+    @Override
+    public CompletableFuture<?> send(PriceReadSummary summary) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Circuito del productor de Kafka abierto"));
+        }
+        String key = summary.getProductId() + "-" + summary.getBrandId();
+        try {
+            return priceReadSummaryKafkaTemplate.send(pricingReadSummariesTopic, key, summary)
+                    .whenComplete((result, ex) -> {
+                        if (ex == null) {
+                            circuitBreaker.onSuccess();
+                        } else {
+                            circuitBreaker.onFailure();
+                            log.error("Error al publicar resumen de lecturas: key={}, error={}", key, ex.getMessage());
+                        }
+                    });
+        } catch (Exception e) {
+            circuitBreaker.onFailure();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
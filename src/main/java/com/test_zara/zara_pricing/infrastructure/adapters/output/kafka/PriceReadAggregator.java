@@ -0,0 +1,310 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.kafka;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.ports.out.PriceEventPublisher;
+import com.test_zara.zara_pricing.infrastructure.avro.PriceReadSummary;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publicador que, en lugar de un evento por lectura, agrupa las lecturas por (productId, brandId) y publica
+ * un {@link PriceReadSummary} por clave cada flushInterval o en cuanto hay maxKeys claves distintas.
+ * Cada lectura se suma dentro de un compute del mapa y el vaciado retira las claves con remove, así que ninguna
+ * lectura se cuenta dos veces ni se pierde entre vaciados; si el envío de un resumen falla su contador vuelve
+ * al mapa y al cerrar se hace un último vaciado.
+ */
+@Slf4j
+public class PriceReadAggregator implements PriceEventPublisher, AutoCloseable {
+
+    /**
+     * Destino de los resúmenes; el futuro falla si el resumen no se ha podido publicar
+     */
+    @FunctionalInterface
+    public interface SummarySink {
+        CompletableFuture<?> send(PriceReadSummary summary);
+    }
+
+    private final SummarySink sink;
+
+    private final Duration flushInterval;
+
+    private final int maxKeys;
+
+    private final Duration shutdownTimeout;
+
+    private final Clock clock;
+
+    private final ConcurrentHashMap<ReadKey, ReadCounter> counters = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final LongAdder recorded = new LongAdder();
+
+    private final LongAdder flushedReads = new LongAdder();
+
+    private final LongAdder summaries = new LongAdder();
+
+    private final LongAdder failedFlushes = new LongAdder();
+
+    private ScheduledExecutorService scheduler;
+
+    public PriceReadAggregator(SummarySink sink, Duration flushInterval, int maxKeys, Duration shutdownTimeout) {
+        this(sink, flushInterval, maxKeys, shutdownTimeout, Clock.systemUTC());
+    }
+
+    public PriceReadAggregator(SummarySink sink, Duration flushInterval, int maxKeys, Duration shutdownTimeout, Clock clock) {
+        if (maxKeys <= 0) {
+            throw new IllegalArgumentException("maxKeys debe ser positivo");
+        }
+        this.sink = sink;
+        this.flushInterval = flushInterval;
+        this.maxKeys = maxKeys;
+        this.shutdownTimeout = shutdownTimeout;
+        this.clock = clock;
+    }
+
+    /**
+     * Arranca el vaciado periódico
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("price-reads-flusher")
+                .daemon()
+                .factory());
+        long period = flushInterval.toMillis();
+        scheduler.scheduleAtFixedRate(this::scheduledFlush, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void publishPriceRetrieved(Price price) {
+        record(price);
+        if (counters.size() >= maxKeys) {
+            requestFlush();
+        }
+    }
+
+    @Override
+    public void publishPricesRetrieved(List<Price> prices) {
+        prices.forEach(this::record);
+        if (counters.size() >= maxKeys) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * Publica un resumen por clave con las lecturas acumuladas hasta ahora
+     */
+    public CompletableFuture<Void> flush() {
+        long windowEnd = clock.millis();
+        List<ReadCounter> drained = new ArrayList<>(counters.size());
+        for (ReadKey key : counters.keySet()) {
+            ReadCounter counter = counters.remove(key);
+            if (counter != null) {
+                drained.add(counter);
+            }
+        }
+        if (drained.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<?>[] sent = new CompletableFuture<?>[drained.size()];
+        for (int i = 0; i < sent.length; i++) {
+            sent[i] = send(drained.get(i), windowEnd);
+        }
+        long reads = drained.stream().mapToLong(ReadCounter::count).sum();
+        return CompletableFuture.allOf(sent).whenComplete((ignored, ex) -> {
+            if (ex == null) {
+                log.debug("Resúmenes de lecturas publicados: claves={}, lecturas={}", drained.size(), reads);
+            } else {
+                failedFlushes.increment();
+                log.warn("Vaciado de lecturas incompleto, las claves fallidas se reintentan en el siguiente: claves={}, error={}",
+                        drained.size(), ex.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Para el vaciado periódico y publica lo acumulado, esperando como mucho shutdownTimeout
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService current;
+        synchronized (this) {
+            current = scheduler;
+            scheduler = null;
+        }
+        if (current != null) {
+            current.shutdown();
+            try {
+                current.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            flush().get(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("Lecturas de precio sin publicar al cerrar: {}", pendingReads());
+        }
+    }
+
+    public int pendingKeys() {
+        return counters.size();
+    }
+
+    public long pendingReads() {
+        return counters.values().stream().mapToLong(ReadCounter::count).sum();
+    }
+
+    public long recordedCount() {
+        return recorded.sum();
+    }
+
+    public long flushedReadCount() {
+        return flushedReads.sum();
+    }
+
+    public long summaryCount() {
+        return summaries.sum();
+    }
+
+    public long failedFlushCount() {
+        return failedFlushes.sum();
+    }
+
+    /**
+     * Publica el resumen de una clave; si falla, sus lecturas vuelven al mapa y se suman a las que hayan llegado
+     */
+    private CompletableFuture<?> send(ReadCounter counter, long windowEnd) {
+        CompletableFuture<?> sent;
+        try {
+            sent = sink.send(counter.toSummary(windowEnd));
+        } catch (RuntimeException e) {
+            sent = CompletableFuture.failedFuture(e);
+        }
+        return sent.whenComplete((ignored, ex) -> {
+            if (ex == null) {
+                flushedReads.add(counter.count());
+                summaries.increment();
+            } else {
+                counters.merge(counter.key(), counter, ReadCounter::merge);
+            }
+        });
+    }
+
+    private void record(Price price) {
+        ReadKey key = new ReadKey(price.productId(), price.brandId());
+        counters.compute(key, (k, counter) -> counter == null ? new ReadCounter(k, price, clock.millis()) : counter.add(price));
+        recorded.increment();
+    }
+
+    /**
+     * Con maxKeys claves se adelanta el vaciado; solo se encola uno aunque lleguen muchas lecturas a la vez
+     */
+    private void requestFlush() {
+        ScheduledExecutorService current = scheduler;
+        if (current != null && flushRequested.compareAndSet(false, true)) {
+            try {
+                current.execute(() -> {
+                    flushRequested.set(false);
+                    flush();
+                });
+            } catch (RuntimeException e) {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Error al vaciar las lecturas de precio: {}", e.getMessage(), e);
+        }
+    }
+
+    private record ReadKey(Long productId, Integer brandId) {
+    }
+
+    /**
+     * Lecturas de una clave; solo se modifica dentro de compute o merge del mapa
+     */
+    private static final class ReadCounter {
+
+        private final ReadKey key;
+
+        private final String currency;
+
+        private long count;
+
+        private double minPrice;
+
+        private double maxPrice;
+
+        private long windowStart;
+
+        private ReadCounter(ReadKey key, Price price, long windowStart) {
+            this.key = key;
+            this.currency = price.currency();
+            this.count = 1;
+            this.minPrice = price.price().doubleValue();
+            this.maxPrice = minPrice;
+            this.windowStart = windowStart;
+        }
+
+        ReadCounter add(Price price) {
+            double amount = price.price().doubleValue();
+            count++;
+            minPrice = Math.min(minPrice, amount);
+            maxPrice = Math.max(maxPrice, amount);
+            return this;
+        }
+
+        ReadCounter merge(ReadCounter other) {
+            count += other.count;
+            minPrice = Math.min(minPrice, other.minPrice);
+            maxPrice = Math.max(maxPrice, other.maxPrice);
+            windowStart = Math.min(windowStart, other.windowStart);
+            return this;
+        }
+
+        ReadKey key() {
+            return key;
+        }
+
+        long count() {
+            return count;
+        }
+
+        PriceReadSummary toSummary(long windowEnd) {
+            return PriceReadSummary.newBuilder()
+                    .setProductId(key.productId().toString())
+                    .setBrandId(key.brandId())
+                    .setReadCount(count)
+                    .setMinPrice(minPrice)
+                    .setMaxPrice(maxPrice)
+                    .setCurrency(currency)
+                    .setWindowStart(windowStart)
+                    .setWindowEnd(windowEnd)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Cortocircuito del productor de Kafka.
+ * Tras failureThreshold fallos seguidos (errores de envío, de serialización contra el schema registry o envíos
+ * que tardan más de slowCallThreshold) se abre y rechaza los envíos con una lectura volátil, sin tocar el productor.
+ * Pasado openDuration deja pasar una única prueba: si sale bien se cierra y si falla vuelve a abrirse.
+ */
+@Slf4j
+public class PublisherCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+
+    private final long openNanos;
+
+    private final long slowCallNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder opened = new LongAdder();
+
+    private volatile long openedAt;
+
+    public PublisherCircuitBreaker(int failureThreshold, Duration openDuration, Duration slowCallThreshold) {
+        this(failureThreshold, openDuration, slowCallThreshold, System::nanoTime);
+    }
+
+    public PublisherCircuitBreaker(int failureThreshold, Duration openDuration, Duration slowCallThreshold, LongSupplier nanoClock) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("failureThreshold debe ser positivo");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Indica si se puede intentar un envío; con el circuito abierto solo deja pasar la prueba de recuperación
+     */
+    public boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN
+                && nanoClock.getAsLong() - openedAt >= openNanos
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            log.info("Circuito del productor de Kafka semiabierto: probando un envío");
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Marca de tiempo para medir la duración de la parte síncrona de un envío
+     */
+    public long startCall() {
+        return nanoClock.getAsLong();
+    }
+
+    /**
+     * Un envío que ha tardado más que slowCallThreshold en volver cuenta como fallo aunque haya terminado bien
+     */
+    public boolean isSlowCall(long startedAt) {
+        return nanoClock.getAsLong() - startedAt > slowCallNanos;
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            log.info("Circuito del productor de Kafka cerrado: envíos restablecidos");
+        }
+    }
+
+    public void onFailure() {
+        openedAt = nanoClock.getAsLong();
+        if (state.compareAndSet(State.HALF_OPEN, State.OPEN)) {
+            log.warn("Circuito del productor de Kafka reabierto: la prueba de recuperación ha fallado");
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && state.compareAndSet(State.CLOSED, State.OPEN)) {
+            opened.increment();
+            log.warn("Circuito del productor de Kafka abierto tras {} fallos seguidos; reintento en {} ms",
+                    failureThreshold, openNanos / 1_000_000);
+        }
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    public long openedCount() {
+        return opened.sum();
+    }
+}
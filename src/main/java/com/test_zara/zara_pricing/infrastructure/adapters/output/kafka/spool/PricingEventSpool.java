@@ -0,0 +1,404 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.spool;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Registro en disco, solo de añadido, de eventos serializados que no se han podido publicar.
+ * Los registros se escriben en {@link SpoolSegment} proyectados en memoria que rotan al llenarse; con
+ * maxSegments segmentos llenos se descartan los nuevos. La posición de reenvío se guarda en replay.position
+ * reemplazando el fichero de forma atómica, de modo que tras una caída se retoma desde el último lote confirmado
+ * (entrega al menos una vez). Los registros perdidos por un CRC roto se cuentan en {@link #corruptedCount()}.
+ */
+@Slf4j
+public class PricingEventSpool implements AutoCloseable {
+
+    private static final PricingEventSpool DISABLED = new PricingEventSpool();
+
+    private static final String POSITION_FILE = "replay.position";
+
+    private static final String LOCK_FILE = "spool.lock";
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final int maxSegments;
+
+    private final NavigableMap<Long, SpoolSegment> segments = new TreeMap<>();
+
+    /**
+     * Cerrojo del estado del spool en lugar de synchronized: append y force hacen E/S de disco y, llamados desde un
+     * hilo virtual, un monitor retendría el hilo portador mientras tanto
+     */
+    private final ReentrantLock stateLock = new ReentrantLock();
+
+    private final LongAdder appended = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder replayed = new LongAdder();
+
+    private final LongAdder corrupted = new LongAdder();
+
+    private FileChannel lockChannel;
+
+    private SpoolSegment writeSegment;
+
+    private SpoolPosition readPosition;
+
+    private volatile long pending;
+
+    private boolean closed;
+
+    private PricingEventSpool() {
+        this.directory = null;
+        this.segmentSize = 0;
+        this.maxSegments = 0;
+        this.closed = true;
+    }
+
+    private PricingEventSpool(Path directory, int segmentSize, int maxSegments) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+    }
+
+    /**
+     * Spool que no guarda nada: los eventos que no se pueden publicar se descartan
+     */
+    public static PricingEventSpool disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Abre el spool del directorio, recuperando los segmentos y la posición de reenvío de una ejecución anterior
+     */
+    public static PricingEventSpool open(Path directory, int segmentSize, long maxBytes) throws IOException {
+        if (segmentSize <= SpoolSegment.HEADER_BYTES || maxBytes < segmentSize) {
+            throw new IllegalArgumentException("segmentSize debe superar la cabecera y maxBytes no puede ser menor que un segmento");
+        }
+        Files.createDirectories(directory);
+        PricingEventSpool spool = new PricingEventSpool(directory, segmentSize, (int) Math.min(Integer.MAX_VALUE, maxBytes / segmentSize));
+        spool.lock();
+        try {
+            spool.recover();
+        } catch (IOException | RuntimeException e) {
+            spool.close();
+            throw e;
+        }
+        return spool;
+    }
+
+    /**
+     * Añade un registro al final; devuelve false si el spool está desactivado, lleno o el registro no cabe en un segmento
+     */
+    public boolean append(byte[] record) {
+        stateLock.lock();
+        try {
+            if (closed || record.length > segmentSize - SpoolSegment.HEADER_BYTES) {
+                dropped.increment();
+                return false;
+            }
+            if (!writeSegment.append(record)) {
+                if (segments.size() >= maxSegments) {
+                    dropped.increment();
+                    return false;
+                }
+                try {
+                    rotate();
+                } catch (IOException e) {
+                    dropped.increment();
+                    log.error("No se ha podido crear un segmento del spool de eventos: {}", e.getMessage(), e);
+                    return false;
+                }
+                writeSegment.append(record);
+            }
+            pending++;
+            appended.increment();
+            return true;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Lee hasta maxRecords registros desde la posición de reenvío sin avanzarla
+     */
+    public SpoolBatch read(int maxRecords) {
+        stateLock.lock();
+        try {
+            if (closed) {
+                return new SpoolBatch(List.of(), readPosition);
+            }
+            List<byte[]> records = new ArrayList<>(Math.min(maxRecords, (int) Math.min(pending, 1024)));
+            SpoolPosition position = readPosition;
+            while (records.size() < maxRecords) {
+                Map.Entry<Long, SpoolSegment> entry = segments.ceilingEntry(position.segmentId());
+                if (entry == null) {
+                    break;
+                }
+                SpoolSegment segment = entry.getValue();
+                int offset = entry.getKey() == position.segmentId() ? position.offset() : 0;
+                byte[] record = segment.read(offset);
+                if (record == null) {
+                    if (segment == writeSegment) {
+                        position = new SpoolPosition(segment.id(), offset);
+                        break;
+                    }
+                    position = new SpoolPosition(segment.id() + 1, 0);
+                    continue;
+                }
+                records.add(record);
+                position = new SpoolPosition(segment.id(), offset + SpoolSegment.HEADER_BYTES + record.length);
+            }
+            return new SpoolBatch(records, position);
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Confirma un lote ya publicado: guarda la nueva posición y borra los segmentos que han quedado atrás
+     */
+    public void commit(SpoolBatch batch) {
+        stateLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            try {
+                writePosition(batch.next());
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se ha podido guardar la posición de reenvío del spool", e);
+            }
+            readPosition = batch.next();
+            pending = Math.max(0, pending - batch.records().size());
+            replayed.add(batch.records().size());
+            deleteSegmentsBefore(readPosition.segmentId());
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Vuelca a disco los segmentos escritos desde el último volcado
+     */
+    public void force() {
+        stateLock.lock();
+        try {
+            if (!closed) {
+                segments.values().forEach(SpoolSegment::force);
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * Lectura volátil sin bloqueo: el publicador la consulta en cada envío
+     */
+    public boolean hasPending() {
+        return pending > 0;
+    }
+
+    public long pendingCount() {
+        return pending;
+    }
+
+    public long sizeBytes() {
+        stateLock.lock();
+        try {
+            return segments.values().stream().mapToLong(SpoolSegment::capacity).sum();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    public int segmentCount() {
+        stateLock.lock();
+        try {
+            return segments.size();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    public long appendedCount() {
+        return appended.sum();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public long replayedCount() {
+        return replayed.sum();
+    }
+
+    /**
+     * Registros descartados al recuperar el spool por estar dañados o detrás de uno dañado en su segmento
+     */
+    public long corruptedCount() {
+        return corrupted.sum();
+    }
+
+    @Override
+    public void close() {
+        stateLock.lock();
+        try {
+            if (closed && lockChannel == null) {
+                return;
+            }
+            force();
+            closed = true;
+            segments.values().forEach(SpoolSegment::release);
+            segments.clear();
+            if (lockChannel != null) {
+                try {
+                    lockChannel.close();
+                } catch (IOException e) {
+                    log.warn("No se ha podido liberar el bloqueo del spool de eventos: {}", e.getMessage());
+                }
+                lockChannel = null;
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    /**
+     * Un solo proceso por directorio: dos spools sobre los mismos segmentos se pisarían
+     */
+    private void lock() throws IOException {
+        lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            lockChannel = null;
+            throw new IOException("El spool de eventos " + directory + " ya está en uso");
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(SpoolSegment::isSegment).sorted().toList();
+        }
+        for (Path file : files) {
+            SpoolSegment segment = SpoolSegment.open(file);
+            segments.put(segment.id(), segment);
+            if (segment.discardedRecords() > 0) {
+                corrupted.add(segment.discardedRecords());
+                log.warn("Segmento {} del spool de eventos dañado en el byte {}: se descartan {} eventos",
+                        segment.id(), segment.writeOffset(), segment.discardedRecords());
+            }
+        }
+
+        SpoolPosition stored = readStoredPosition();
+        if (segments.isEmpty()) {
+            long firstId = stored == null ? 0 : stored.segmentId();
+            segments.put(firstId, SpoolSegment.create(directory, firstId, segmentSize));
+        }
+        writeSegment = segments.lastEntry().getValue();
+        readPosition = stored == null || stored.segmentId() < segments.firstKey()
+                ? new SpoolPosition(segments.firstKey(), 0)
+                : stored;
+        if (readPosition.segmentId() > writeSegment.id()
+                || readPosition.segmentId() == writeSegment.id() && readPosition.offset() > writeSegment.writeOffset()) {
+            // Registros confirmados que no llegaron a disco antes de una caída del sistema
+            readPosition = new SpoolPosition(writeSegment.id(), writeSegment.writeOffset());
+        }
+        deleteSegmentsBefore(readPosition.segmentId());
+        pending = countPending();
+        log.info("Spool de eventos de precio abierto en {}: {} segmentos, {} eventos pendientes", directory, segments.size(), pending);
+    }
+
+    /**
+     * Registros desde la posición de reenvío, recorriendo solo las cabeceras
+     */
+    private long countPending() {
+        long count = 0;
+        for (SpoolSegment segment : segments.tailMap(readPosition.segmentId(), true).values()) {
+            count += segment.recordCount(segment.id() == readPosition.segmentId() ? readPosition.offset() : 0);
+        }
+        return count;
+    }
+
+    private void rotate() throws IOException {
+        writeSegment.force();
+        SpoolSegment next = SpoolSegment.create(directory, writeSegment.id() + 1, segmentSize);
+        segments.put(next.id(), next);
+        writeSegment = next;
+    }
+
+    private void deleteSegmentsBefore(long segmentId) {
+        while (segments.firstKey() < segmentId && segments.firstEntry().getValue() != writeSegment) {
+            SpoolSegment consumed = segments.pollFirstEntry().getValue();
+            try {
+                consumed.delete();
+            } catch (IOException e) {
+                log.warn("No se ha podido borrar el segmento {} del spool: {}", consumed.id(), e.getMessage());
+            }
+        }
+    }
+
+    private SpoolPosition readStoredPosition() throws IOException {
+        Path file = directory.resolve(POSITION_FILE);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.remaining() < Long.BYTES + Integer.BYTES) {
+            log.warn("Posición de reenvío del spool ilegible; se reenvía desde el primer segmento");
+            return null;
+        }
+        return new SpoolPosition(buffer.getLong(), buffer.getInt());
+    }
+
+    /**
+     * Escribe la posición en un temporal, lo vuelca y lo mueve encima del anterior: o queda la vieja o la nueva
+     */
+    private void writePosition(SpoolPosition position) throws IOException {
+        Path temporary = directory.resolve(POSITION_FILE + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES)
+                .putLong(position.segmentId())
+                .putInt(position.offset())
+                .flip();
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(POSITION_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
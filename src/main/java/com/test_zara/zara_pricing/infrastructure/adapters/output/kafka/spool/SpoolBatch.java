@@ -0,0 +1,13 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.spool;
+
+import java.util.List;
+
+/**
+ * Registros leídos del spool en orden de llegada y la posición que queda tras ellos, para confirmarla al reenviarlos
+ */
+public record SpoolBatch(List<byte[]> records, SpoolPosition next) {
+
+    public boolean isEmpty() {
+        return records.isEmpty();
+    }
+}
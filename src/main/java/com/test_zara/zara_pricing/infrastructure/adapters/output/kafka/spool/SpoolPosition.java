@@ -0,0 +1,7 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.spool;
+
+/**
+ * Posición de lectura del spool: segmento y desplazamiento del siguiente registro por reenviar
+ */
+public record SpoolPosition(long segmentId, int offset) {
+}
@@ -0,0 +1,175 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.spool;
+
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.PublisherCircuitBreaker;
+import com.test_zara.zara_pricing.infrastructure.avro.PricingEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Reenvía a Kafka los eventos del {@link PricingEventSpool} en orden de llegada y a ritmo acotado.
+ * Cada TICK_MS lee un lote, lo envía y espera la confirmación del broker antes de avanzar la posición; si el lote falla
+ * la posición no se mueve y se reintenta cuando el cortocircuito lo permita. Mientras el circuito está abierto,
+ * el lote de reenvío hace de prueba de recuperación.
+ * <p>
+ * El lote empieza en replayRate / 10 registros y se dobla tras cada lote confirmado que deja pendientes, hasta
+ * maxReplayRate / 10; al vaciarse el spool o fallar un envío vuelve al inicial. Como los eventos nuevos también van al
+ * spool mientras quede algo pendiente, el atasco solo se drena si llegan a menos de maxReplayRate por segundo; si no,
+ * el spool crece hasta su tamaño máximo y a partir de ahí descarta los eventos nuevos.
+ */
+@Slf4j
+public class SpoolReplayer implements AutoCloseable {
+
+    private static final long TICK_MS = 100;
+
+    private final PricingEventSpool spool;
+
+    private final KafkaTemplate<String, PricingEvent> kafkaTemplate;
+
+    private final PublisherCircuitBreaker circuitBreaker;
+
+    private final String topic;
+
+    private final int initialRecordsPerTick;
+
+    private final int maxRecordsPerTick;
+
+    private int recordsPerTick;
+
+    private final Duration sendTimeout;
+
+    private ScheduledExecutorService scheduler;
+
+    public SpoolReplayer(
+            PricingEventSpool spool,
+            KafkaTemplate<String, PricingEvent> kafkaTemplate,
+            PublisherCircuitBreaker circuitBreaker,
+            String topic,
+            int replayRate,
+            int maxReplayRate,
+            Duration sendTimeout
+    ) {
+        if (replayRate <= 0) {
+            throw new IllegalArgumentException("replayRate debe ser positivo");
+        }
+        if (maxReplayRate < replayRate) {
+            throw new IllegalArgumentException("maxReplayRate no puede ser menor que replayRate");
+        }
+        this.spool = spool;
+        this.kafkaTemplate = kafkaTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.topic = topic;
+        this.initialRecordsPerTick = recordsPerTick(replayRate);
+        this.maxRecordsPerTick = recordsPerTick(maxReplayRate);
+        this.recordsPerTick = initialRecordsPerTick;
+        this.sendTimeout = sendTimeout;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("price-events-replayer")
+                .daemon()
+                .factory());
+        scheduler.scheduleWithFixedDelay(this::tick, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reenvía un lote del spool; devuelve cuántos eventos se han confirmado
+     */
+    public synchronized int replayOnce() {
+        if (!spool.hasPending() || !circuitBreaker.tryAcquire()) {
+            return 0;
+        }
+        SpoolBatch batch = spool.read(recordsPerTick);
+        List<CompletableFuture<?>> futures = new ArrayList<>(batch.records().size());
+        try {
+            for (byte[] record : batch.records()) {
+                send(record, futures);
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onFailure();
+            recordsPerTick = initialRecordsPerTick;
+            return 0;
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            circuitBreaker.onFailure();
+            recordsPerTick = initialRecordsPerTick;
+            log.warn("Reenvío del spool de eventos fallido: eventos={}, pendientes={}, error={}",
+                    batch.records().size(), spool.pendingCount(), e.getMessage());
+            return 0;
+        }
+        spool.commit(batch);
+        circuitBreaker.onSuccess();
+        recordsPerTick = spool.hasPending() ? Math.min(maxRecordsPerTick, recordsPerTick * 2) : initialRecordsPerTick;
+        log.info("Eventos de precio reenviados desde el spool: eventos={}, pendientes={}", futures.size(), spool.pendingCount());
+        return futures.size();
+    }
+
+    /**
+     * Registros que se leerán en el próximo lote
+     */
+    public synchronized int batchSize() {
+        return recordsPerTick;
+    }
+
+    @Override
+    public void close() {
+        ScheduledExecutorService current;
+        synchronized (this) {
+            current = scheduler;
+            scheduler = null;
+        }
+        if (current == null) {
+            return;
+        }
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(sendTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                current.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int recordsPerTick(int rate) {
+        return (int) Math.max(1, rate * TICK_MS / 1000);
+    }
+
+    private void send(byte[] record, List<CompletableFuture<?>> futures) {
+        SpooledPricingEvent spooled;
+        try {
+            spooled = SpooledPricingEvent.decode(record);
+        } catch (RuntimeException e) {
+            log.error("Registro ilegible en el spool de eventos, se descarta: {}", e.getMessage());
+            return;
+        }
+        futures.add(kafkaTemplate.send(topic, spooled.key(), spooled.event()));
+    }
+
+    /**
+     * El planificador deja de ejecutar la tarea si lanza; ningún error del reenvío debe pararlo
+     */
+    private void tick() {
+        try {
+            spool.force();
+            replayOnce();
+        } catch (RuntimeException e) {
+            log.error("Error en el reenvío del spool de eventos: {}", e.getMessage(), e);
+        }
+    }
+}
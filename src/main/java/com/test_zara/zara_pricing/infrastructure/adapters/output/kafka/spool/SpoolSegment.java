@@ -0,0 +1,255 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.spool;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Fichero de tamaño fijo proyectado en memoria donde se añaden registros uno detrás de otro.
+ * Cada registro ocupa [longitud int][crc32c int][bytes]; la longitud se escribe la última, así que un registro
+ * a medio escribir cuando cae el proceso se lee como longitud 0, que marca el final de los datos.
+ * Un registro con longitud pero con el CRC roto también corta el segmento: lo que va detrás se descarta y se cuenta.
+ */
+@Slf4j
+final class SpoolSegment {
+
+    static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private static final String SUFFIX = ".seg";
+
+    /**
+     * Unsafe.invokeCleaner, para liberar la proyección al borrar el segmento en vez de esperar al GC; null si el
+     * JDK no lo expone, y entonces la proyección vive hasta que se recoja el buffer
+     */
+    private static final MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    private final long id;
+
+    private final Path path;
+
+    private final MappedByteBuffer buffer;
+
+    private int writeOffset;
+
+    private boolean dirty;
+
+    private boolean released;
+
+    /**
+     * Registros descartados al abrir el segmento por ir detrás de uno dañado
+     */
+    private int discarded;
+
+    private SpoolSegment(long id, Path path, MappedByteBuffer buffer) {
+        this.id = id;
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    static SpoolSegment create(Path directory, long id, int size) throws IOException {
+        Path path = directory.resolve(fileName(id));
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new SpoolSegment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+    }
+
+    /**
+     * Abre un segmento existente y sitúa la escritura tras el último registro íntegro
+     */
+    static SpoolSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            SpoolSegment segment = new SpoolSegment(idOf(path), path, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+            segment.recover();
+            return segment;
+        }
+    }
+
+    static boolean isSegment(Path path) {
+        return path.getFileName().toString().endsWith(SUFFIX);
+    }
+
+    static long idOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    /**
+     * Añade el registro si cabe; devuelve false cuando el segmento está lleno
+     */
+    boolean append(byte[] record) {
+        if (record.length > buffer.capacity() - writeOffset - HEADER_BYTES) {
+            return false;
+        }
+        int next = writeOffset + HEADER_BYTES + record.length;
+        // Marca de final antes de publicar la longitud: tras una caída no se leen restos de registros descartados
+        if (next <= buffer.capacity() - Integer.BYTES) {
+            buffer.putInt(next, 0);
+        }
+        buffer.put(writeOffset + HEADER_BYTES, record);
+        buffer.putInt(writeOffset + Integer.BYTES, checksum(record));
+        buffer.putInt(writeOffset, record.length);
+        writeOffset = next;
+        dirty = true;
+        return true;
+    }
+
+    /**
+     * Registro que empieza en offset, o null si ahí no hay un registro íntegro
+     */
+    byte[] read(int offset) {
+        if (offset >= writeOffset) {
+            return null;
+        }
+        int length = buffer.getInt(offset);
+        if (length <= 0 || length > buffer.capacity() - offset - HEADER_BYTES) {
+            return null;
+        }
+        byte[] record = new byte[length];
+        buffer.get(offset + HEADER_BYTES, record);
+        return checksum(record) == buffer.getInt(offset + Integer.BYTES) ? record : null;
+    }
+
+    /**
+     * Registros íntegros desde offset hasta el final de los datos, contados por las cabeceras sin copiar los bytes
+     */
+    int recordCount(int offset) {
+        int count = 0;
+        while (offset < writeOffset) {
+            offset += HEADER_BYTES + buffer.getInt(offset);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Vuelca a disco lo escrito desde el último volcado
+     */
+    void force() {
+        if (dirty && !released) {
+            buffer.force();
+            dirty = false;
+        }
+    }
+
+    /**
+     * Libera la proyección; el segmento no se puede volver a usar
+     */
+    void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        if (INVOKE_CLEANER != null) {
+            try {
+                INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+            } catch (Throwable e) {
+                log.debug("No se ha podido liberar la proyección del segmento {}: {}", id, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Libera la proyección y borra el fichero
+     */
+    void delete() throws IOException {
+        release();
+        Files.deleteIfExists(path);
+    }
+
+    long id() {
+        return id;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    int writeOffset() {
+        return writeOffset;
+    }
+
+    int discardedRecords() {
+        return discarded;
+    }
+
+    /**
+     * Sitúa la escritura tras el último registro íntegro, comprobando el CRC sobre el propio buffer.
+     * Si el recorrido se corta en una cabecera con longitud, lo que queda desde ahí se da por perdido.
+     */
+    private void recover() {
+        int offset = 0;
+        while (offset <= buffer.capacity() - HEADER_BYTES && intact(offset)) {
+            offset += HEADER_BYTES + buffer.getInt(offset);
+        }
+        writeOffset = offset;
+        discarded = countFrom(offset);
+        if (offset <= buffer.capacity() - Integer.BYTES) {
+            buffer.putInt(offset, 0);
+            dirty |= discarded > 0;
+        }
+    }
+
+    private boolean intact(int offset) {
+        int length = buffer.getInt(offset);
+        if (length <= 0 || length > buffer.capacity() - offset - HEADER_BYTES) {
+            return false;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset + HEADER_BYTES, length));
+        return (int) crc.getValue() == buffer.getInt(offset + Integer.BYTES);
+    }
+
+    /**
+     * Cabeceras con longitud a partir de offset, incluida la primera aunque su longitud sea imposible
+     */
+    private int countFrom(int offset) {
+        int count = 0;
+        while (offset <= buffer.capacity() - HEADER_BYTES) {
+            int length = buffer.getInt(offset);
+            if (length == 0) {
+                break;
+            }
+            count++;
+            if (length < 0 || length > buffer.capacity() - offset - HEADER_BYTES) {
+                break;
+            }
+            offset += HEADER_BYTES + length;
+        }
+        return count;
+    }
+
+    private static int checksum(byte[] record) {
+        CRC32C crc = new CRC32C();
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+
+    private static MethodHandle invokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String fileName(long id) {
+        return String.format("%020d%s", id, SUFFIX);
+    }
+}
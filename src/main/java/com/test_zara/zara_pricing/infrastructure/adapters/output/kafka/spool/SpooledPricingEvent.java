@@ -0,0 +1,41 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.spool;
+
+import com.test_zara.zara_pricing.infrastructure.avro.PricingEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Evento guardado en el spool con su clave de Kafka.
+ * Se serializa como [longitud de la clave][clave UTF-8][PricingEvent en binario Avro]; el binario es el
+ * codificador de mensajes de Avro, que no necesita el schema registry.
+ */
+public record SpooledPricingEvent(String key, PricingEvent event) {
+
+    public byte[] encode() {
+        try {
+            byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer payload = event.toByteBuffer();
+            return ByteBuffer.allocate(Integer.BYTES + keyBytes.length + payload.remaining())
+                    .putInt(keyBytes.length)
+                    .put(keyBytes)
+                    .put(payload)
+                    .array();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se ha podido serializar el evento de precio " + key, e);
+        }
+    }
+
+    public static SpooledPricingEvent decode(byte[] record) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            byte[] keyBytes = new byte[buffer.getInt()];
+            buffer.get(keyBytes);
+            return new SpooledPricingEvent(new String(keyBytes, StandardCharsets.UTF_8), PricingEvent.fromByteBuffer(buffer.slice()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Registro del spool ilegible", e);
+        }
+    }
+}
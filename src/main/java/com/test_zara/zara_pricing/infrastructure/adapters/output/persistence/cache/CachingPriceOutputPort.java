@@ -0,0 +1,229 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.ports.out.PriceOutputPort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Decorador de lectura sobre el adaptador de persistencia.
+ * Cada (brandId, productId) guarda sus últimas {@link PriceWindow}, disjuntas y la más reciente primero: mientras
+ * la fecha pedida caiga dentro de [validFrom, validUntil) de alguna el resultado es exactamente el mismo, sin TTL,
+ * y solo se vuelve a consultar al salir de todas; las ventanas sin tarifas también se guardan. Guardar varias
+ * evita que consultas que alternan fechas del mismo producto se sustituyan la ventana una a otra.
+ * Los productos que no están en {@link KnownPriceKeys} se responden vacíos sin consultar ni ocupar la caché.
+ * El tamaño está acotado por productos y el desalojo lo decide Caffeine (W-TinyLFU).
+ */
+public class CachingPriceOutputPort implements PriceOutputPort {
+
+    public static final int DEFAULT_WINDOWS_PER_PRODUCT = 4;
+
+    private final PriceOutputPort delegate;
+
+    private final Cache<PriceCacheKey, List<PriceWindow>> cache;
+
+    private final int windowsPerProduct;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder unknown = new LongAdder();
+
+    private volatile KnownPriceKeys knownKeys;
+
+    public CachingPriceOutputPort(PriceOutputPort delegate, Cache<PriceCacheKey, List<PriceWindow>> cache) {
+        this(delegate, cache, KnownPriceKeys.all());
+    }
+
+    public CachingPriceOutputPort(
+            PriceOutputPort delegate,
+            Cache<PriceCacheKey, List<PriceWindow>> cache,
+            KnownPriceKeys knownKeys
+    ) {
+        this(delegate, cache, knownKeys, DEFAULT_WINDOWS_PER_PRODUCT);
+    }
+
+    public CachingPriceOutputPort(
+            PriceOutputPort delegate,
+            Cache<PriceCacheKey, List<PriceWindow>> cache,
+            KnownPriceKeys knownKeys,
+            int windowsPerProduct
+    ) {
+        if (windowsPerProduct <= 0) {
+            throw new IllegalArgumentException("windowsPerProduct debe ser positivo");
+        }
+        this.delegate = delegate;
+        this.cache = cache;
+        this.knownKeys = knownKeys;
+        this.windowsPerProduct = windowsPerProduct;
+    }
+
+    @Override
+    public Optional<Price> findFinalPrice(
+            Integer brandId,
+            Long productId,
+            LocalDateTime date
+    ) {
+        return findPriceWindow(brandId, productId, date).winner();
+    }
+
+    @Override
+    public List<Price> findFinalPriceWithConvention(
+            Integer brandId,
+            Long productId,
+            LocalDateTime date
+    ) {
+        return findPriceWindow(brandId, productId, date).applicablePrices();
+    }
+
+    @Override
+    public PriceWindow findPriceWindow(
+            Integer brandId,
+            Long productId,
+            LocalDateTime date
+    ) {
+        PriceWindow cached = cachedWindow(brandId, productId, date);
+        if (cached != null) {
+            return cached;
+        }
+
+        PriceWindow loaded = delegate.findPriceWindow(brandId, productId, date);
+        store(new PriceCacheKey(brandId, productId), loaded);
+        return loaded;
+    }
+
+    /**
+     * Resuelve desde la caché lo que pueda y pide el resto al adaptador en una sola llamada
+     */
+    @Override
+    public List<PriceWindow> findPriceWindows(List<PriceQuery> queries) {
+        PriceWindow[] windows = new PriceWindow[queries.size()];
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < windows.length; i++) {
+            PriceQuery query = queries.get(i);
+            windows[i] = cachedWindow(query.brandId(), query.productId(), query.date());
+            if (windows[i] == null) {
+                pending.add(i);
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            List<PriceWindow> loaded = delegate.findPriceWindows(pending.stream().map(queries::get).toList());
+            for (int j = 0; j < pending.size(); j++) {
+                int i = pending.get(j);
+                windows[i] = loaded.get(j);
+                store(new PriceCacheKey(queries.get(i).brandId(), queries.get(i).productId()), windows[i]);
+            }
+        }
+        return List.of(windows);
+    }
+
+    @Override
+    public List<Price> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Price> findPage(PriceCursor after, int limit) {
+        return delegate.findPage(after, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<Price> action) {
+        delegate.streamAll(action);
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Consultas de productos sin tarifas resueltas por el filtro de claves conocidas
+     */
+    public long unknownKeyCount() {
+        return unknown.sum();
+    }
+
+    public long evictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Sustituye el conjunto de productos conocidos y descarta las ventanas guardadas
+     */
+    public void refresh(KnownPriceKeys knownKeys) {
+        this.knownKeys = knownKeys;
+        cache.invalidateAll();
+    }
+
+    /**
+     * Ventana que cubre la fecha sin consultar el adaptador, o null si hay que cargarla
+     */
+    private PriceWindow cachedWindow(Integer brandId, Long productId, LocalDateTime date) {
+        if (!knownKeys.mightContain(brandId, productId)) {
+            unknown.increment();
+            return PriceWindow.empty();
+        }
+
+        // La lectura pasa por la política de Caffeine para que los productos que siempre aciertan cuenten como
+        // frecuentes en W-TinyLFU; los contadores propios distinguen si alguna ventana cubre la fecha
+        List<PriceWindow> cached = cache.getIfPresent(new PriceCacheKey(brandId, productId));
+        if (cached != null) {
+            for (PriceWindow window : cached) {
+                if (window.contains(date)) {
+                    hits.increment();
+                    return window;
+                }
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Añade la ventana delante de las del producto, quitando las que se solapan con ella y las que pasan del máximo
+     */
+    private void store(PriceCacheKey key, PriceWindow loaded) {
+        cache.asMap().merge(key, List.of(loaded), (cached, added) -> {
+            List<PriceWindow> windows = new ArrayList<>(windowsPerProduct);
+            windows.add(loaded);
+            for (PriceWindow window : cached) {
+                if (windows.size() == windowsPerProduct) {
+                    break;
+                }
+                if (!overlaps(window, loaded)) {
+                    windows.add(window);
+                }
+            }
+            return List.copyOf(windows);
+        });
+    }
+
+    private static boolean overlaps(PriceWindow first, PriceWindow second) {
+        return first.validFrom().isBefore(second.validUntil()) && second.validFrom().isBefore(first.validUntil());
+    }
+
+    /**
+     * Clave de la caché: un producto de una marca
+     */
+    public record PriceCacheKey(Integer brandId, Long productId) {
+    }
+}
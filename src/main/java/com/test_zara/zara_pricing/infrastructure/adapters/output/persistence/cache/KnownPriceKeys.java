@@ -0,0 +1,121 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.cache;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.ports.out.PriceOutputPort;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory.PriceKeyMap;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Conjunto exacto de los (brandId, productId) que tienen alguna tarifa, guardado como claves
+ * empaquetadas ordenadas (8 bytes por producto) y consultado con una búsqueda binaria.
+ * Permite responder sin ir a la base de datos a productos que no existen.
+ */
+public final class KnownPriceKeys {
+
+    private static final KnownPriceKeys ALL = new KnownPriceKeys(null);
+
+    /**
+     * Claves ordenadas y sin duplicados; null si el filtro deja pasar cualquier clave
+     */
+    private final long[] sortedKeys;
+
+    private KnownPriceKeys(long[] sortedKeys) {
+        this.sortedKeys = sortedKeys;
+    }
+
+    /**
+     * Filtro que no descarta nada, para cuando está desactivado
+     */
+    public static KnownPriceKeys all() {
+        return ALL;
+    }
+
+    /**
+     * Construye el conjunto recorriendo las tarifas del origen con {@link PriceOutputPort#streamAll}:
+     * solo se retienen las claves distintas, nunca las filas.
+     */
+    public static KnownPriceKeys from(PriceOutputPort source) {
+        Builder builder = new Builder();
+        source.streamAll(builder);
+        return builder.build();
+    }
+
+    /**
+     * Construye el conjunto a partir de las tarifas cargadas.
+     * Si alguna clave no cabe en 64 bits no se puede representar de forma exacta y el filtro queda abierto.
+     */
+    public static KnownPriceKeys of(Collection<Price> prices) {
+        Builder builder = new Builder();
+        prices.forEach(builder);
+        return builder.build();
+    }
+
+    /**
+     * false solo si es seguro que el producto no tiene ninguna tarifa
+     */
+    public boolean mightContain(Integer brandId, Long productId) {
+        if (sortedKeys == null) {
+            return true;
+        }
+        return PriceKeyMap.isPackable(brandId, productId)
+                && Arrays.binarySearch(sortedKeys, PriceKeyMap.pack(brandId, productId)) >= 0;
+    }
+
+    public boolean isFiltering() {
+        return sortedKeys != null;
+    }
+
+    public int size() {
+        return sortedKeys == null ? 0 : sortedKeys.length;
+    }
+
+    /**
+     * Acumula claves empaquetadas a medida que llegan las tarifas. streamAll las entrega en orden de clave,
+     * así que las repetidas son consecutivas y se descartan sin crecer; build() ordena y deduplica igualmente
+     * por si el origen no respeta ese orden.
+     */
+    private static final class Builder implements Consumer<Price> {
+
+        private long[] keys = new long[1024];
+
+        private int count;
+
+        private boolean open;
+
+        @Override
+        public void accept(Price price) {
+            if (open) {
+                return;
+            }
+            if (!PriceKeyMap.isPackable(price.brandId(), price.productId())) {
+                open = true;
+                return;
+            }
+            long key = PriceKeyMap.pack(price.brandId(), price.productId());
+            if (count > 0 && keys[count - 1] == key) {
+                return;
+            }
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, count * 2);
+            }
+            keys[count++] = key;
+        }
+
+        KnownPriceKeys build() {
+            if (open) {
+                return ALL;
+            }
+            Arrays.sort(keys, 0, count);
+            int distinct = 0;
+            for (int i = 0; i < count; i++) {
+                if (distinct == 0 || keys[distinct - 1] != keys[i]) {
+                    keys[distinct++] = keys[i];
+                }
+            }
+            return new KnownPriceKeys(Arrays.copyOf(keys, distinct));
+        }
+    }
+}
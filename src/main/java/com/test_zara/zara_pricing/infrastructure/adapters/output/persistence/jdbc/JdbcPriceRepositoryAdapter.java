@@ -0,0 +1,200 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.jdbc;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.ports.out.PriceOutputPort;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador de salida sobre JDBC sin ORM: SQL escrito a mano, {@link PriceRowMapper} por posición y ningún
+ * contexto de persistencia. Mismas consultas y mismo orden que {@code PriceRepositoryAdapter}; se activa con
+ * pricing.persistence.adapter=jdbc.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.persistence.adapter", havingValue = "jdbc")
+@Qualifier("persistence")
+@Transactional(readOnly = true)
+public class JdbcPriceRepositoryAdapter implements PriceOutputPort {
+
+    /**
+     * Columnas en el orden que lee {@link PriceRowMapper}
+     */
+    static final String PRICE_COLUMNS = """
+        SELECT brand_id, start_date, end_date, price_list, product_id, priority, price, curr, id
+        FROM prices
+        """;
+
+    static final String KEY_ORDER = " ORDER BY brand_id, product_id, start_date, price_list, id";
+
+    static final String FINAL_PRICE_SQL = PRICE_COLUMNS + """
+        WHERE brand_id = ?
+        AND product_id = ?
+        AND ? BETWEEN start_date AND end_date
+        ORDER BY priority DESC, start_date DESC, price_list DESC, end_date DESC, price DESC, curr DESC
+        FETCH FIRST 1 ROWS ONLY
+        """;
+
+    static final String APPLICABLE_PRICES_SQL = PRICE_COLUMNS + """
+        WHERE brand_id = ?
+        AND product_id = ?
+        AND start_date <= ?
+        AND end_date >= ?
+        """;
+
+    static final String PRODUCT_PRICES_SQL = PRICE_COLUMNS + """
+        WHERE brand_id = ?
+        AND product_id = ?
+        """;
+
+    static final String PRICES_IN_SQL = PRICE_COLUMNS + """
+        WHERE brand_id IN (:brandIds)
+        AND product_id IN (:productIds)
+        """;
+
+    static final String FIRST_PAGE_SQL = PRICE_COLUMNS + KEY_ORDER + " FETCH FIRST ? ROWS ONLY";
+
+    static final String PAGE_AFTER_SQL = PRICE_COLUMNS + """
+        WHERE brand_id > ?
+        OR (brand_id = ? AND product_id > ?)
+        OR (brand_id = ? AND product_id = ? AND start_date > ?)
+        OR (brand_id = ? AND product_id = ? AND start_date = ? AND price_list > ?)
+        OR (brand_id = ? AND product_id = ? AND start_date = ? AND price_list = ? AND id > ?)
+        """ + KEY_ORDER + " FETCH FIRST ? ROWS ONLY";
+
+    /**
+     * Filas que trae el driver en cada viaje al recorrer la tabla completa
+     */
+    static final int STREAM_FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final JdbcClient jdbcClient;
+
+    /**
+     * La consulta del camino caliente se analiza una sola vez: cada llamada solo crea el PreparedStatement
+     * con los parámetros ya tipados, y el driver reutiliza la sentencia compilada de la sesión
+     */
+    private final PreparedStatementCreatorFactory finalPriceStatement;
+
+    public JdbcPriceRepositoryAdapter(JdbcTemplate jdbcTemplate, JdbcClient jdbcClient) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcClient = jdbcClient;
+        this.finalPriceStatement = new PreparedStatementCreatorFactory(FINAL_PRICE_SQL,
+                Types.INTEGER, Types.BIGINT, Types.TIMESTAMP);
+    }
+
+    @Override
+    public Optional<Price> findFinalPrice(
+            Integer brandId,
+            Long productId,
+            LocalDateTime date
+    ) {
+        List<Price> prices = jdbcTemplate.query(
+                finalPriceStatement.newPreparedStatementCreator(new Object[]{brandId, productId, date}),
+                PriceRowMapper.INSTANCE);
+        return prices.stream().findFirst();
+    }
+
+    @Override
+    public List<Price> findFinalPriceWithConvention(
+            Integer brandId,
+            Long productId,
+            LocalDateTime date
+    ) {
+        return jdbcTemplate.query(APPLICABLE_PRICES_SQL, PriceRowMapper.INSTANCE, brandId, productId, date, date);
+    }
+
+    @Override
+    public PriceWindow findPriceWindow(
+            Integer brandId,
+            Long productId,
+            LocalDateTime date
+    ) {
+        return PriceWindow.of(jdbcTemplate.query(PRODUCT_PRICES_SQL, PriceRowMapper.INSTANCE, brandId, productId), date);
+    }
+
+    /**
+     * Una sola consulta para todo el lote, con las listas IN expandidas por {@link JdbcClient}
+     */
+    @Override
+    public List<PriceWindow> findPriceWindows(List<PriceQuery> queries) {
+        if (queries.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Integer> brandIds = queries.stream().map(PriceQuery::brandId).collect(Collectors.toSet());
+        Set<Long> productIds = queries.stream().map(PriceQuery::productId).collect(Collectors.toSet());
+        Map<ProductKey, List<Price>> pricesByProduct = jdbcClient.sql(PRICES_IN_SQL)
+                .param("brandIds", brandIds)
+                .param("productIds", productIds)
+                .query(PriceRowMapper.INSTANCE)
+                .list()
+                .stream()
+                .collect(Collectors.groupingBy(price -> new ProductKey(price.brandId(), price.productId())));
+
+        return queries.stream()
+                .map(query -> PriceWindow.of(
+                        pricesByProduct.getOrDefault(new ProductKey(query.brandId(), query.productId()), List.of()),
+                        query.date()))
+                .toList();
+    }
+
+    @Override
+    public List<Price> findAll() {
+        return jdbcTemplate.query(PRICE_COLUMNS, PriceRowMapper.INSTANCE);
+    }
+
+    @Override
+    public List<Price> findPage(PriceCursor after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(FIRST_PAGE_SQL, PriceRowMapper.INSTANCE, limit);
+        }
+        Integer brandId = after.brandId();
+        Long productId = after.productId();
+        LocalDateTime startDate = after.startDate();
+        return jdbcTemplate.query(PAGE_AFTER_SQL, PriceRowMapper.INSTANCE,
+                brandId,
+                brandId, productId,
+                brandId, productId, startDate,
+                brandId, productId, startDate, after.priceList(),
+                brandId, productId, startDate, after.priceList(), after.id(),
+                limit);
+    }
+
+    /**
+     * Recorre el ResultSet fila a fila sin acumular la lista; la transacción mantiene la conexión mientras
+     * el driver trae bloques de {@link #STREAM_FETCH_SIZE} filas
+     */
+    @Override
+    public void streamAll(Consumer<Price> action) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(PRICE_COLUMNS + KEY_ORDER);
+                    statement.setFetchSize(STREAM_FETCH_SIZE);
+                    return statement;
+                },
+                (RowCallbackHandler) rs -> action.accept(PriceRowMapper.INSTANCE.mapRow(rs, rs.getRow())));
+    }
+
+    private record ProductKey(Integer brandId, Long productId) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.jdbc;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Lee una fila de prices por posición, en el orden de {@link JdbcPriceRepositoryAdapter#PRICE_COLUMNS}
+ */
+final class PriceRowMapper implements RowMapper<Price> {
+
+    static final PriceRowMapper INSTANCE = new PriceRowMapper();
+
+    private PriceRowMapper() {
+    }
+
+    @Override
+    public Price mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new Price(
+                rs.getInt(1),
+                rs.getObject(2, LocalDateTime.class),
+                rs.getObject(3, LocalDateTime.class),
+                rs.getInt(4),
+                rs.getLong(5),
+                rs.getInt(6),
+                rs.getBigDecimal(7),
+                rs.getString(8),
+                rs.getLong(9));
+    }
+}
@@ -1,33 +1,47 @@
 package com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.jpa;
 
 import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
 import com.test_zara.zara_pricing.domain.ports.out.PriceOutputPort;
 import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.jpa.repository.DataPriceRepository;
-import com.test_zara.zara_pricing.infrastructure.mappers.PriceMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+/**
+ * Adaptador de salida sobre H2 con las proyecciones de {@link DataPriceRepository}: cada consulta devuelve el
+ * {@link Price} del dominio sin pasar por entidades gestionadas, dentro de una transacción de solo lectura.
+ */
 @Component
+@ConditionalOnProperty(name = "pricing.persistence.adapter", havingValue = "jpa", matchIfMissing = true)
+@Qualifier("persistence")
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class PriceRepositoryAdapter implements PriceOutputPort {
 
     private final DataPriceRepository jpaRepository;
 
-    private final PriceMapper priceMapper;
-
     @Override
     public Optional<Price> findFinalPrice(
             Integer brandId,
             Long productId,
             LocalDateTime date
     ) {
-        return jpaRepository
-                .findFinalPriceWithJpql(brandId, productId, date)
-                .map(priceMapper::toDomain);
+        return jpaRepository.findFinalPrice(brandId, productId, date);
     }
 
     @Override
@@ -36,19 +50,66 @@ public class PriceRepositoryAdapter implements PriceOutputPort {
             Long productId,
             LocalDateTime date
     ) {
-        return jpaRepository
-                .findByBrandIdAndProductIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                        brandId, productId, date, date)
+        return jpaRepository.findApplicablePrices(brandId, productId, date);
+    }
+
+    @Override
+    public PriceWindow findPriceWindow(
+            Integer brandId,
+            Long productId,
+            LocalDateTime date
+    ) {
+        return PriceWindow.of(jpaRepository.findPrices(brandId, productId), date);
+    }
+
+    /**
+     * Una sola consulta para todo el lote: las marcas y productos pedidos acotan un superconjunto
+     * que se agrupa por (brandId, productId) antes de resolver cada ventana
+     */
+    @Override
+    public List<PriceWindow> findPriceWindows(List<PriceQuery> queries) {
+        if (queries.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Integer> brandIds = queries.stream().map(PriceQuery::brandId).collect(Collectors.toSet());
+        Set<Long> productIds = queries.stream().map(PriceQuery::productId).collect(Collectors.toSet());
+        Map<ProductKey, List<Price>> pricesByProduct = jpaRepository
+                .findPricesIn(brandIds, productIds)
                 .stream()
-                .map(priceMapper::toDomain)
+                .collect(Collectors.groupingBy(price -> new ProductKey(price.brandId(), price.productId())));
+
+        return queries.stream()
+                .map(query -> PriceWindow.of(
+                        pricesByProduct.getOrDefault(new ProductKey(query.brandId(), query.productId()), List.of()),
+                        query.date()))
                 .toList();
     }
 
     @Override
     public List<Price> findAll() {
-        return jpaRepository.findAll()
-                .stream()
-                .map(priceMapper::toDomain)
-                .toList();
+        return jpaRepository.findAllPrices();
+    }
+
+    @Override
+    public List<Price> findPage(PriceCursor after, int limit) {
+        return after == null
+                ? jpaRepository.findFirstPage(Limit.of(limit))
+                : jpaRepository.findPageAfter(
+                        after.brandId(), after.productId(), after.startDate(), after.priceList(), after.id(), Limit.of(limit));
+    }
+
+    /**
+     * El cursor necesita la transacción abierta mientras se recorre; la proyección no deja nada en el contexto
+     * de persistencia, así que la memoria no crece con la tabla
+     */
+    @Override
+    public void streamAll(Consumer<Price> action) {
+        try (Stream<Price> rows = jpaRepository.streamAllInKeyOrder()) {
+            rows.forEach(action);
+        }
+    }
+
+    private record ProductKey(Integer brandId, Long productId) {
     }
 }
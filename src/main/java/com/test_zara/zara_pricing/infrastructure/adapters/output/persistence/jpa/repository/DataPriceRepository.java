@@ -1,24 +1,39 @@
 package com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.jpa.repository;
 
+import com.test_zara.zara_pricing.domain.model.Price;
 import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.jpa.entity.PriceEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DataPriceRepository extends JpaRepository<PriceEntity, Long> {
 
+    /**
+     * Filas que trae el driver en cada viaje al recorrer la tabla con un cursor
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * Consulta sobre entidades gestionadas; los adaptadores usan la proyección {@link #findFinalPrice}
+     */
     @Query("""
         SELECT p FROM PriceEntity p 
         WHERE p.brandId = :brandId 
         AND p.productId = :productId 
         AND :date BETWEEN p.startDate AND p.endDate
-        ORDER BY p.priority DESC
+        ORDER BY p.priority DESC, p.startDate DESC, p.priceList DESC, p.endDate DESC, p.price DESC, p.curr DESC
         LIMIT 1
         """)
     Optional<PriceEntity> findFinalPriceWithJpql(
@@ -34,4 +49,99 @@ public interface DataPriceRepository extends JpaRepository<PriceEntity, Long> {
             LocalDateTime startDate,
             LocalDateTime endDate
     );
+
+    List<PriceEntity> findByBrandIdAndProductId(
+            Integer brandId,
+            Long productId
+    );
+
+    List<PriceEntity> findByBrandIdInAndProductIdIn(
+            Collection<Integer> brandIds,
+            Collection<Long> productIds
+    );
+
+    /**
+     * Las consultas siguientes construyen el {@link Price} del dominio directamente con una expresión de constructor:
+     * no crean entidades gestionadas, no quedan en el contexto de persistencia ni tienen copia para dirty checking
+     */
+    String PRICE_PROJECTION = """
+        SELECT new com.test_zara.zara_pricing.domain.model.Price(
+            p.brandId, p.startDate, p.endDate, p.priceList, p.productId, p.priority, p.price, p.curr, p.id)
+        FROM PriceEntity p
+        """;
+
+    String KEY_ORDER = " ORDER BY p.brandId, p.productId, p.startDate, p.priceList, p.id";
+
+    @Query(PRICE_PROJECTION + """
+        WHERE p.brandId = :brandId
+        AND p.productId = :productId
+        AND :date BETWEEN p.startDate AND p.endDate
+        ORDER BY p.priority DESC, p.startDate DESC, p.priceList DESC, p.endDate DESC, p.price DESC, p.curr DESC
+        LIMIT 1
+        """)
+    Optional<Price> findFinalPrice(
+            @Param("brandId") Integer brandId,
+            @Param("productId") Long productId,
+            @Param("date") LocalDateTime date
+    );
+
+    @Query(PRICE_PROJECTION + """
+        WHERE p.brandId = :brandId
+        AND p.productId = :productId
+        AND p.startDate <= :date
+        AND p.endDate >= :date
+        """)
+    List<Price> findApplicablePrices(
+            @Param("brandId") Integer brandId,
+            @Param("productId") Long productId,
+            @Param("date") LocalDateTime date
+    );
+
+    @Query(PRICE_PROJECTION + """
+        WHERE p.brandId = :brandId
+        AND p.productId = :productId
+        """)
+    List<Price> findPrices(
+            @Param("brandId") Integer brandId,
+            @Param("productId") Long productId
+    );
+
+    @Query(PRICE_PROJECTION + """
+        WHERE p.brandId IN :brandIds
+        AND p.productId IN :productIds
+        """)
+    List<Price> findPricesIn(
+            @Param("brandIds") Collection<Integer> brandIds,
+            @Param("productIds") Collection<Long> productIds
+    );
+
+    @Query(PRICE_PROJECTION)
+    List<Price> findAllPrices();
+
+    @Query(PRICE_PROJECTION + KEY_ORDER)
+    List<Price> findFirstPage(Limit limit);
+
+    /**
+     * Página siguiente por clave: la comparación de tuplas se expande porque JPQL no la admite
+     */
+    @Query(PRICE_PROJECTION + """
+        WHERE p.brandId > :brandId
+        OR (p.brandId = :brandId AND p.productId > :productId)
+        OR (p.brandId = :brandId AND p.productId = :productId AND p.startDate > :startDate)
+        OR (p.brandId = :brandId AND p.productId = :productId AND p.startDate = :startDate AND p.priceList > :priceList)
+        OR (p.brandId = :brandId AND p.productId = :productId AND p.startDate = :startDate AND p.priceList = :priceList
+            AND p.id > :id)
+        """ + KEY_ORDER)
+    List<Price> findPageAfter(
+            @Param("brandId") Integer brandId,
+            @Param("productId") Long productId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("priceList") Integer priceList,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(PRICE_PROJECTION + KEY_ORDER)
+    Stream<Price> streamAllInKeyOrder();
 }
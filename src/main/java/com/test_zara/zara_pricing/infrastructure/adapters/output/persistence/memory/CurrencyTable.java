@@ -0,0 +1,39 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tabla de códigos de moneda internados: cada tarifa guarda un short en lugar de su String curr.
+ * Se rellena durante la carga del índice y a partir de ahí solo se lee.
+ */
+public final class CurrencyTable {
+
+    private final Map<String, Short> indexes = new HashMap<>();
+
+    private final List<String> codes = new ArrayList<>();
+
+    public short indexOf(String code) {
+        Short index = indexes.get(code);
+        if (index != null) {
+            return index;
+        }
+        if (codes.size() > Short.MAX_VALUE) {
+            throw new IllegalStateException("Demasiados códigos de moneda distintos: " + codes.size());
+        }
+        short created = (short) codes.size();
+        codes.add(code);
+        indexes.put(code, created);
+        return created;
+    }
+
+    public String code(short index) {
+        return codes.get(index);
+    }
+
+    public int size() {
+        return codes.size();
+    }
+}
@@ -0,0 +1,47 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Codifica las fechas de las tarifas como segundos epoch en una zona de desfase fijo,
+ * para que las comparaciones de intervalos del índice sean comparaciones de long.
+ * Solo se admiten zonas sin cambios horarios: con horario de verano dos LocalDateTime distintas
+ * podrían caer en el mismo instante y romper el orden. La resolución es de segundos.
+ */
+public final class EpochTimeCodec {
+
+    public static final EpochTimeCodec UTC = new EpochTimeCodec(ZoneOffset.UTC);
+
+    private final ZoneOffset offset;
+
+    private EpochTimeCodec(ZoneOffset offset) {
+        this.offset = offset;
+    }
+
+    public static EpochTimeCodec of(ZoneId zone) {
+        if (!zone.getRules().isFixedOffset()) {
+            throw new IllegalArgumentException("La zona del índice debe tener un desfase fijo: " + zone);
+        }
+        return new EpochTimeCodec(zone.getRules().getOffset(Instant.EPOCH));
+    }
+
+    /**
+     * Segundos epoch de la fecha; las fracciones de segundo se truncan. Las fechas de consulta ya llegan sin
+     * fracciones ({@link com.test_zara.zara_pricing.domain.services.PriceDomainService#atPriceResolution}), así que
+     * el índice compara lo mismo que BETWEEN en SQL.
+     */
+    public long toEpochSecond(LocalDateTime date) {
+        return date.toEpochSecond(offset);
+    }
+
+    public LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, offset);
+    }
+
+    public ZoneOffset offset() {
+        return offset;
+    }
+}
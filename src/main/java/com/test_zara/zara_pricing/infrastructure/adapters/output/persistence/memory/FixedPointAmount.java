@@ -0,0 +1,28 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Representación en punto fijo de los importes de la columna price DECIMAL(10,2):
+ * el importe se guarda en unidades mínimas (céntimos) dentro de un long.
+ * Solo se convierte a BigDecimal en el borde, al devolver el {@link com.test_zara.zara_pricing.domain.model.Price}.
+ */
+public final class FixedPointAmount {
+
+    public static final int SCALE = 2;
+
+    private FixedPointAmount() {
+    }
+
+    /**
+     * Convierte a unidades mínimas; falla si el importe tiene más decimales que la columna
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+}
@@ -0,0 +1,106 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.ports.out.PriceOutputPort;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.jpa.repository.DataPriceRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Adaptador de salida que resuelve los precios desde un índice en memoria.
+ * La tabla prices se carga completa al arrancar; se activa con pricing.persistence.adapter=memory.
+ * Las fechas se indexan en segundos epoch de la zona fija pricing.persistence.memory.zone.
+ */
+@Component
+@ConditionalOnProperty(name = "pricing.persistence.adapter", havingValue = "memory")
+@Qualifier("persistence")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryPriceRepositoryAdapter implements PriceOutputPort {
+
+    private final DataPriceRepository jpaRepository;
+
+    @Value("${pricing.persistence.memory.zone:UTC}")
+    private String zone;
+
+    private volatile PriceIntervalIndex index = PriceIntervalIndex.empty();
+
+    /**
+     * Recarga el índice completo desde la base de datos
+     */
+    @PostConstruct
+    public void reload() {
+        long start = System.nanoTime();
+        PriceIntervalIndex loaded = PriceIntervalIndex.of(
+                jpaRepository.findAllPrices(),
+                EpochTimeCodec.of(ZoneId.of(zone)));
+        index = loaded;
+        log.info("Índice de precios en memoria cargado: {} tarifas, {} productos en {} ms",
+                loaded.size(), loaded.keyCount(), (System.nanoTime() - start) / 1_000_000);
+        log.debug("Memoria de la clave (brandId, productId): {}", loaded.memoryReport());
+    }
+
+    @Override
+    public Optional<Price> findFinalPrice(
+            Integer brandId,
+            Long productId,
+            LocalDateTime date
+    ) {
+        return index.findFinalPrice(brandId, productId, date);
+    }
+
+    @Override
+    public List<Price> findFinalPriceWithConvention(
+            Integer brandId,
+            Long productId,
+            LocalDateTime date
+    ) {
+        return index.findApplicablePrices(brandId, productId, date);
+    }
+
+    @Override
+    public PriceWindow findPriceWindow(
+            Integer brandId,
+            Long productId,
+            LocalDateTime date
+    ) {
+        return index.findPriceWindow(brandId, productId, date);
+    }
+
+    @Override
+    public List<PriceWindow> findPriceWindows(List<PriceQuery> queries) {
+        PriceIntervalIndex snapshot = index;
+        return queries.stream()
+                .map(query -> snapshot.findPriceWindow(query.brandId(), query.productId(), query.date()))
+                .toList();
+    }
+
+    @Override
+    public List<Price> findAll() {
+        return index.findAll();
+    }
+
+    @Override
+    public List<Price> findPage(PriceCursor after, int limit) {
+        return index.findPage(after, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<Price> action) {
+        index.forEach(action);
+    }
+}
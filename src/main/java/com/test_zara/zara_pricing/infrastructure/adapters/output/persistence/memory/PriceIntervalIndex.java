@@ -0,0 +1,201 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Índice inmutable de tarifas agrupadas por (brandId, productId) sobre un {@link PriceKeyMap}.
+ * Cada clave apunta a un {@link PriceSlice} con sus intervalos ordenados por fecha de inicio, para la
+ * consulta por convención, y su línea temporal precalculada, para resolver el precio final con una búsqueda binaria.
+ * La fecha de cada consulta se convierte a segundos epoch una sola vez, al entrar en el índice.
+ */
+public final class PriceIntervalIndex {
+
+    private static final PriceIntervalIndex EMPTY = new PriceIntervalIndex(
+            new PriceKeyMap<>(), new PriceSlice[0], new long[0], 0, EpochTimeCodec.UTC);
+
+    private static final Comparator<Price> BY_KEY_AND_START_DATE = Comparator
+            .comparingLong(PriceIntervalIndex::keyOf)
+            .thenComparing(Price::startDate);
+
+    private final PriceKeyMap<PriceSlice> intervals;
+
+    private final PriceSlice[] slices;
+
+    private final long[] sliceKeys;
+
+    private final int size;
+
+    private final EpochTimeCodec timeCodec;
+
+    private PriceIntervalIndex(
+            PriceKeyMap<PriceSlice> intervals,
+            PriceSlice[] slices,
+            long[] sliceKeys,
+            int size,
+            EpochTimeCodec timeCodec
+    ) {
+        this.intervals = intervals;
+        this.slices = slices;
+        this.sliceKeys = sliceKeys;
+        this.size = size;
+        this.timeCodec = timeCodec;
+    }
+
+    public static PriceIntervalIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Construye el índice a partir de las filas de la tabla prices.
+     * Ordenar por clave empaquetada deja cada producto en un tramo contiguo, sin agrupar en mapas intermedios.
+     */
+    public static PriceIntervalIndex of(Collection<Price> prices) {
+        return of(prices, EpochTimeCodec.UTC);
+    }
+
+    public static PriceIntervalIndex of(Collection<Price> prices, EpochTimeCodec timeCodec) {
+        Price[] sorted = prices.toArray(Price[]::new);
+        Arrays.sort(sorted, BY_KEY_AND_START_DATE);
+
+        CurrencyTable currencyTable = new CurrencyTable();
+        PriceSlice[] slices = new PriceSlice[countKeys(sorted)];
+        long[] sliceKeys = new long[slices.length];
+        PriceKeyMap<PriceSlice> intervals = new PriceKeyMap<>(slices.length);
+        int from = 0;
+        for (int slice = 0; slice < slices.length; slice++) {
+            long key = keyOf(sorted[from]);
+            int to = from + 1;
+            while (to < sorted.length && keyOf(sorted[to]) == key) {
+                to++;
+            }
+            slices[slice] = PriceSlice.of(Arrays.copyOfRange(sorted, from, to), currencyTable, timeCodec);
+            sliceKeys[slice] = key;
+            intervals.put(key, slices[slice]);
+            from = to;
+        }
+
+        return new PriceIntervalIndex(intervals, slices, sliceKeys, sorted.length, timeCodec);
+    }
+
+    /**
+     * Devuelve la tarifa ganadora en la fecha, equivalente a DataPriceRepository.findFinalPrice
+     */
+    public Optional<Price> findFinalPrice(Integer brandId, Long productId, LocalDateTime date) {
+        PriceSlice slice = intervals.get(brandId, productId);
+        return slice == null ? Optional.empty() : slice.priceAt(timeCodec.toEpochSecond(date));
+    }
+
+    /**
+     * Devuelve todas las tarifas vigentes en la fecha, equivalente a la consulta derivada por convención
+     */
+    public List<Price> findApplicablePrices(Integer brandId, Long productId, LocalDateTime date) {
+        PriceSlice slice = intervals.get(brandId, productId);
+        return slice == null ? List.of() : slice.applicablePrices(timeCodec.toEpochSecond(date));
+    }
+
+    /**
+     * Devuelve las tarifas vigentes en la fecha junto al intervalo en el que no cambian, que es el intervalo
+     * de la línea temporal que contiene la fecha: una búsqueda binaria sin materializar el resto de filas
+     */
+    public PriceWindow findPriceWindow(Integer brandId, Long productId, LocalDateTime date) {
+        PriceSlice slice = intervals.get(brandId, productId);
+        return slice == null ? PriceWindow.empty() : slice.windowAt(timeCodec.toEpochSecond(date));
+    }
+
+    /**
+     * Todas las tarifas, agrupadas por producto; se materializan en cada llamada sin quedar retenidas
+     */
+    public List<Price> findAll() {
+        List<Price> all = new ArrayList<>(size);
+        for (PriceSlice slice : slices) {
+            slice.copyRowsTo(all);
+        }
+        return all;
+    }
+
+    /**
+     * Hasta limit tarifas posteriores al cursor en {@link PriceCursor#KEY_ORDER}.
+     * Los tramos ya están ordenados por clave empaquetada, así que se busca el primero con una búsqueda binaria
+     * y solo se materializan los tramos que entran en la página.
+     */
+    public List<Price> findPage(PriceCursor after, int limit) {
+        List<Price> page = new ArrayList<>(Math.min(limit, size));
+        int first = after == null || !PriceKeyMap.isPackable(after.brandId(), after.productId())
+                ? 0
+                : firstSliceFrom(PriceKeyMap.pack(after.brandId(), after.productId()));
+        for (int slice = first; slice < slices.length && page.size() < limit; slice++) {
+            for (Price price : inKeyOrder(slices[slice])) {
+                if (page.size() == limit) {
+                    break;
+                }
+                if (after == null || after.precedes(price)) {
+                    page.add(price);
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Recorre todas las tarifas en {@link PriceCursor#KEY_ORDER} materializando un tramo cada vez
+     */
+    public void forEach(Consumer<Price> action) {
+        for (PriceSlice slice : slices) {
+            inKeyOrder(slice).forEach(action);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int keyCount() {
+        return intervals.size();
+    }
+
+    public PriceKeyMap.MemoryReport memoryReport() {
+        return intervals.memoryReport();
+    }
+
+    private static long keyOf(Price price) {
+        return PriceKeyMap.pack(price.brandId(), price.productId());
+    }
+
+    private int firstSliceFrom(long key) {
+        int found = Arrays.binarySearch(sliceKeys, key);
+        return found >= 0 ? found : -found - 1;
+    }
+
+    /**
+     * Dentro del tramo las filas van por fecha de inicio; priceList e id desempatan como en la consulta paginada.
+     * Son copias que el tramo no retiene, igual que en findAll: una exportación o un recorrido de páginas no deja
+     * un Price por fila en el índice
+     */
+    private static List<Price> inKeyOrder(PriceSlice slice) {
+        List<Price> prices = new ArrayList<>(slice.rowCount());
+        slice.copyRowsTo(prices);
+        prices.sort(PriceCursor.KEY_ORDER);
+        return prices;
+    }
+
+    private static int countKeys(Price[] sortedByKey) {
+        int keys = 0;
+        for (int i = 0; i < sortedByKey.length; i++) {
+            if (i == 0 || keyOf(sortedByKey[i]) != keyOf(sortedByKey[i - 1])) {
+                keys++;
+            }
+        }
+        return keys;
+    }
+}
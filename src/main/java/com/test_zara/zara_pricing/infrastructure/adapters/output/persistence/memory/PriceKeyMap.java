@@ -0,0 +1,191 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory;
+
+/**
+ * Mapa de direccionamiento abierto indexado por (brandId, productId) empaquetados en un único long.
+ * Guarda claves y valores en arrays paralelos con sondeo lineal, sin cajas Integer/Long,
+ * sin registros clave y sin nodos por entrada como un HashMap.
+ * Los valores null no están permitidos: un hueco vacío se reconoce por su valor null.
+ */
+public final class PriceKeyMap<V> {
+
+    private static final float MAX_LOAD_FACTOR = 0.75f;
+
+    private static final long MAX_PRODUCT_ID = 0xFFFF_FFFFL;
+
+    private long[] keys;
+
+    private Object[] values;
+
+    private int size;
+
+    private int mask;
+
+    public PriceKeyMap() {
+        this(16);
+    }
+
+    public PriceKeyMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, (int) Math.ceil(expectedSize / MAX_LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Empaqueta la marca en los 32 bits altos y el producto en los 32 bits bajos
+     */
+    public static long pack(int brandId, long productId) {
+        if (productId < 0 || productId > MAX_PRODUCT_ID) {
+            throw new IllegalArgumentException("productId fuera de rango para la clave empaquetada: " + productId);
+        }
+        return ((long) brandId << 32) | productId;
+    }
+
+    public static boolean isPackable(Integer brandId, Long productId) {
+        return brandId != null && productId != null && productId >= 0 && productId <= MAX_PRODUCT_ID;
+    }
+
+    public V get(Integer brandId, Long productId) {
+        return isPackable(brandId, productId) ? get(pack(brandId, productId)) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            Object value = values[slot];
+            if (value == null) {
+                return null;
+            }
+            if (keys[slot] == key) {
+                return (V) value;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("PriceKeyMap no admite valores null");
+        }
+        if (size + 1 > (int) (values.length * MAX_LOAD_FACTOR)) {
+            resize(values.length << 1);
+        }
+
+        int slot = slot(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    /**
+     * Bytes ocupados por las tablas internas (sin contar los valores apuntados)
+     */
+    public long footprintBytes() {
+        return MemoryLayout.arrayBytes(keys.length, Long.BYTES)
+                + MemoryLayout.arrayBytes(values.length, MemoryLayout.REFERENCE_BYTES);
+    }
+
+    /**
+     * Informe de memoria por entrada frente a un HashMap con clave record(Integer, Long)
+     */
+    public MemoryReport memoryReport() {
+        return new MemoryReport(size, capacity(), footprintBytes(), MemoryLayout.hashMapWithRecordKeyBytes(size));
+    }
+
+    private int slot(long key) {
+        // Finalizador de MurmurHash3: reparte bien claves consecutivas de producto
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int slot = 0; slot < oldValues.length; slot++) {
+            if (oldValues[slot] != null) {
+                put(oldKeys[slot], (V) oldValues[slot]);
+            }
+        }
+    }
+
+    public record MemoryReport(int entries, int capacity, long bytes, long hashMapBytes) {
+
+        public double bytesPerEntry() {
+            return entries == 0 ? 0 : (double) bytes / entries;
+        }
+
+        public double hashMapBytesPerEntry() {
+            return entries == 0 ? 0 : (double) hashMapBytes / entries;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d claves en %d huecos: %d bytes (%.1f B/entrada) frente a ~%d bytes (%.1f B/entrada) de HashMap<record, V>",
+                    entries, capacity, bytes, bytesPerEntry(), hashMapBytes, hashMapBytesPerEntry());
+        }
+    }
+
+    /**
+     * Estimaciones de tamaño para una JVM de 64 bits con oops comprimidas
+     */
+    static final class MemoryLayout {
+
+        static final int REFERENCE_BYTES = 4;
+
+        private static final int ARRAY_HEADER_BYTES = 16;
+
+        private static final int HASHMAP_NODE_BYTES = 32;
+
+        private static final int RECORD_KEY_BYTES = 24;
+
+        private static final int BOXED_LONG_BYTES = 16;
+
+        private MemoryLayout() {
+        }
+
+        static long arrayBytes(int length, int elementBytes) {
+            return align(ARRAY_HEADER_BYTES + (long) length * elementBytes);
+        }
+
+        /**
+         * Nodo + record(Integer, Long) + Long sin caché + hueco en la tabla; las marcas pequeñas salen de la caché de Integer
+         */
+        static long hashMapWithRecordKeyBytes(int entries) {
+            int table = Integer.highestOneBit(Math.max(1, (int) Math.ceil(entries / 0.75)) - 1) << 1;
+            return arrayBytes(Math.max(16, table), REFERENCE_BYTES)
+                    + (long) entries * (HASHMAP_NODE_BYTES + RECORD_KEY_BYTES + BOXED_LONG_BYTES);
+        }
+
+        private static long align(long bytes) {
+            return (bytes + 7) & ~7L;
+        }
+    }
+}
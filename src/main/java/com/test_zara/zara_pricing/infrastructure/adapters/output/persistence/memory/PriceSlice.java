@@ -0,0 +1,206 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.services.PriceDomainService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Tarifas de un único (brandId, productId) guardadas por columnas y ordenadas por fecha de inicio.
+ * Las fechas se guardan como segundos epoch ({@link EpochTimeCodec}), los importes en punto fijo
+ * y la moneda como índice de {@link CurrencyTable}; el id de la fila se conserva porque desempata la paginación.
+ * El {@link Price} se crea en cada lectura y no se retiene: el tramo solo ocupa sus columnas.
+ */
+public final class PriceSlice {
+
+    /**
+     * Marca de fila sin id en {@link #ids}
+     */
+    private static final long NO_ID = Long.MIN_VALUE;
+
+    private final int brandId;
+
+    private final long productId;
+
+    private final long[] startSeconds;
+
+    private final long[] endSeconds;
+
+    private final int[] priceLists;
+
+    private final int[] priorities;
+
+    private final long[] amounts;
+
+    private final short[] currencies;
+
+    private final long[] ids;
+
+    private final CurrencyTable currencyTable;
+
+    private final EpochTimeCodec timeCodec;
+
+    private final PriceTimeline timeline;
+
+    private PriceSlice(Price[] rowsByStartDate, CurrencyTable currencyTable, EpochTimeCodec timeCodec) {
+        int rows = rowsByStartDate.length;
+        this.brandId = rowsByStartDate[0].brandId();
+        this.productId = rowsByStartDate[0].productId();
+        this.startSeconds = new long[rows];
+        this.endSeconds = new long[rows];
+        this.priceLists = new int[rows];
+        this.priorities = new int[rows];
+        this.amounts = new long[rows];
+        this.currencies = new short[rows];
+        this.ids = new long[rows];
+        this.currencyTable = currencyTable;
+        this.timeCodec = timeCodec;
+
+        for (int row = 0; row < rows; row++) {
+            Price price = rowsByStartDate[row];
+            startSeconds[row] = timeCodec.toEpochSecond(price.startDate());
+            endSeconds[row] = timeCodec.toEpochSecond(price.endDate());
+            priceLists[row] = price.priceList();
+            priorities[row] = price.priority();
+            amounts[row] = FixedPointAmount.toMinorUnits(price.price());
+            currencies[row] = currencyTable.indexOf(price.currency());
+            ids[row] = price.id() == null ? NO_ID : price.id();
+        }
+        this.timeline = PriceTimeline.build(this, precedenceRank(rowsByStartDate));
+    }
+
+    /**
+     * Construye el tramo de un producto; las filas deben compartir marca y producto y llegar ordenadas por inicio
+     */
+    public static PriceSlice of(Price[] rowsByStartDate, CurrencyTable currencyTable, EpochTimeCodec timeCodec) {
+        if (rowsByStartDate.length == 0) {
+            throw new IllegalArgumentException("Un PriceSlice necesita al menos una tarifa");
+        }
+        return new PriceSlice(rowsByStartDate, currencyTable, timeCodec);
+    }
+
+    /**
+     * Tarifa ganadora en el segundo epoch indicado
+     */
+    public Optional<Price> priceAt(long epochSecond) {
+        int row = timeline.rowAt(epochSecond);
+        return row < 0 ? Optional.empty() : Optional.of(toPrice(row));
+    }
+
+    /**
+     * Ventana del segundo epoch indicado: las tarifas vigentes y los límites del intervalo de la línea temporal
+     * que lo contiene. Los límites son los mismos que calcula {@link PriceWindow#of}: un punto donde solo termina
+     * alguna tarifa se devuelve como endDate + 1ns, y uno donde alguna empieza, como su startDate.
+     */
+    public PriceWindow windowAt(long epochSecond) {
+        int interval = timeline.intervalAt(epochSecond);
+        LocalDateTime validFrom = interval < 0
+                ? LocalDateTime.MIN
+                : timeline.startsAt(interval) ? dateAt(interval) : afterEndAt(interval);
+        LocalDateTime validUntil = interval + 1 == timeline.pointCount()
+                ? LocalDateTime.MAX
+                : timeline.endsAt(interval + 1) ? afterEndAt(interval + 1) : dateAt(interval + 1);
+        return new PriceWindow(applicablePrices(epochSecond), validFrom, validUntil);
+    }
+
+    /**
+     * Tarifas vigentes en el segundo epoch indicado (intervalos cerrados, como BETWEEN)
+     */
+    public List<Price> applicablePrices(long epochSecond) {
+        List<Price> applicable = new ArrayList<>();
+        for (int row = 0, last = upperBound(epochSecond); row < last; row++) {
+            if (endSeconds[row] >= epochSecond) {
+                applicable.add(toPrice(row));
+            }
+        }
+        return applicable;
+    }
+
+    /**
+     * Copias de todas las filas sin retenerlas en el tramo, para recorridos completos
+     */
+    public void copyRowsTo(List<Price> target) {
+        for (int row = 0; row < rowCount(); row++) {
+            target.add(toPrice(row));
+        }
+    }
+
+    public int rowCount() {
+        return priorities.length;
+    }
+
+    public int segmentCount() {
+        return timeline.segmentCount();
+    }
+
+    long startSecond(int row) {
+        return startSeconds[row];
+    }
+
+    long endSecond(int row) {
+        return endSeconds[row];
+    }
+
+    /**
+     * Posición de cada fila en {@link PriceDomainService#PRICE_PRECEDENCE}, calculada sobre las tarifas originales
+     */
+    private static int[] precedenceRank(Price[] rows) {
+        Integer[] byPrecedence = new Integer[rows.length];
+        for (int row = 0; row < rows.length; row++) {
+            byPrecedence[row] = row;
+        }
+        Arrays.sort(byPrecedence, Comparator.comparing(row -> rows[row], PriceDomainService.PRICE_PRECEDENCE));
+        int[] rank = new int[rows.length];
+        for (int position = 0; position < rows.length; position++) {
+            rank[byPrecedence[position]] = position;
+        }
+        return rank;
+    }
+
+    private Price toPrice(int row) {
+        return new Price(
+                brandId,
+                timeCodec.toLocalDateTime(startSeconds[row]),
+                timeCodec.toLocalDateTime(endSeconds[row]),
+                priceLists[row],
+                productId,
+                priorities[row],
+                FixedPointAmount.toBigDecimal(amounts[row]),
+                currencyTable.code(currencies[row]),
+                ids[row] == NO_ID ? null : ids[row]);
+    }
+
+    private LocalDateTime dateAt(int point) {
+        return timeCodec.toLocalDateTime(timeline.point(point));
+    }
+
+    /**
+     * Primer instante sin la tarifa que termina en el punto: endDate + 1ns, como en PriceWindow
+     */
+    private LocalDateTime afterEndAt(int point) {
+        return timeCodec.toLocalDateTime(timeline.point(point) - 1).plusNanos(1);
+    }
+
+    /**
+     * Primera fila cuya fecha de inicio es posterior a la fecha pedida
+     */
+    private int upperBound(long epochSecond) {
+        int low = 0;
+        int high = startSeconds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startSeconds[mid] > epochSecond) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
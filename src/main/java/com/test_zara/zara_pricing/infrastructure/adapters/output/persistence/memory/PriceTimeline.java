@@ -0,0 +1,147 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory;
+
+import com.test_zara.zara_pricing.domain.services.PriceDomainService;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Línea temporal del precio efectivo de un producto.
+ * Parte el tiempo por todos los inicios y finales de las tarifas de un {@link PriceSlice} en intervalos ordenados
+ * y disjuntos [points[i], points[i + 1]), en segundos epoch, cada uno con la fila ganadora ya resuelta según
+ * {@link PriceDomainService#PRICE_PRECEDENCE}, de modo que una consulta es una única búsqueda binaria sobre long
+ * sin comparar prioridades. Dentro de un intervalo ninguna tarifa empieza ni termina, así que sus límites son
+ * también los de la {@link com.test_zara.zara_pricing.domain.model.PriceWindow} de cualquier fecha que caiga en él.
+ */
+final class PriceTimeline {
+
+    private static final byte STARTS = 1;
+
+    private static final byte ENDS = 2;
+
+    private final long[] points;
+
+    /**
+     * Qué hay en cada punto: el inicio de alguna tarifa, el final exclusivo de alguna o ambos
+     */
+    private final byte[] kinds;
+
+    private final int[] winners;
+
+    private final int segments;
+
+    private PriceTimeline(long[] points, byte[] kinds, int[] winners, int segments) {
+        this.points = points;
+        this.kinds = kinds;
+        this.winners = winners;
+        this.segments = segments;
+    }
+
+    /**
+     * Barrido sobre los inicios y finales de las filas, que vienen ordenadas por fecha de inicio.
+     * Los intervalos de la tabla son cerrados, así que cada tarifa deja de aplicar en endDate + 1s.
+     * precedenceRank es la posición de cada fila al ordenarlas con PRICE_PRECEDENCE: el orden no se
+     * vuelve a escribir sobre las columnas y no puede separarse del que usa el dominio.
+     */
+    static PriceTimeline build(PriceSlice slice, int[] precedenceRank) {
+        int rows = slice.rowCount();
+        long[] sorted = new long[rows * 2];
+        for (int row = 0; row < rows; row++) {
+            sorted[2 * row] = slice.startSecond(row);
+            sorted[2 * row + 1] = exclusiveEnd(slice, row);
+        }
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (long point : sorted) {
+            if (distinct == 0 || sorted[distinct - 1] != point) {
+                sorted[distinct++] = point;
+            }
+        }
+        long[] points = Arrays.copyOf(sorted, distinct);
+
+        byte[] kinds = new byte[distinct];
+        for (int row = 0; row < rows; row++) {
+            kinds[Arrays.binarySearch(points, slice.startSecond(row))] |= STARTS;
+            kinds[Arrays.binarySearch(points, exclusiveEnd(slice, row))] |= ENDS;
+        }
+
+        int[] winners = new int[distinct - 1];
+        int segments = 0;
+
+        PriorityQueue<Integer> active = new PriorityQueue<>(
+                Comparator.comparingInt((Integer row) -> precedenceRank[row]).reversed());
+        int next = 0;
+        for (int p = 0; p < distinct - 1; p++) {
+            long point = points[p];
+
+            while (next < rows && slice.startSecond(next) <= point) {
+                active.add(next++);
+            }
+            // Borrado perezoso: solo importa que la cima siga vigente
+            while (!active.isEmpty() && exclusiveEnd(slice, active.peek()) <= point) {
+                active.poll();
+            }
+
+            winners[p] = active.isEmpty() ? -1 : active.peek();
+            if (winners[p] >= 0 && (p == 0 || winners[p - 1] != winners[p])) {
+                segments++;
+            }
+        }
+
+        return new PriceTimeline(points, kinds, winners, segments);
+    }
+
+    /**
+     * Fila ganadora en el segundo epoch indicado, o -1 si ninguna tarifa aplica
+     */
+    int rowAt(long epochSecond) {
+        int interval = intervalAt(epochSecond);
+        return interval < 0 || interval == winners.length ? -1 : winners[interval];
+    }
+
+    /**
+     * Índice del último punto que no es posterior al segundo indicado: -1 antes del primero y
+     * pointCount() - 1 después del último, donde ya no aplica ninguna tarifa
+     */
+    int intervalAt(long epochSecond) {
+        int low = 0;
+        int high = points.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (points[mid] > epochSecond) {
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return high;
+    }
+
+    long point(int index) {
+        return points[index];
+    }
+
+    int pointCount() {
+        return points.length;
+    }
+
+    boolean startsAt(int index) {
+        return (kinds[index] & STARTS) != 0;
+    }
+
+    boolean endsAt(int index) {
+        return (kinds[index] & ENDS) != 0;
+    }
+
+    /**
+     * Tramos con la misma fila ganadora, contando como uno los intervalos contiguos que comparten ganadora
+     */
+    int segmentCount() {
+        return segments;
+    }
+
+    private static long exclusiveEnd(PriceSlice slice, int row) {
+        return slice.endSecond(row) + 1;
+    }
+}
@@ -0,0 +1,159 @@
+package com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.r2dbc;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.ports.out.ReactivePriceOutputPort;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador de salida reactivo sobre R2DBC: las mismas consultas que el adaptador JDBC con parámetros con nombre,
+ * y las filas se entregan según las devuelve el driver, con la contrapresión del suscriptor.
+ */
+@RequiredArgsConstructor
+public class R2dbcPriceRepositoryAdapter implements ReactivePriceOutputPort {
+
+    static final String PRICE_COLUMNS = """
+        SELECT brand_id, start_date, end_date, price_list, product_id, priority, price, curr, id
+        FROM prices
+        """;
+
+    static final String KEY_ORDER = " ORDER BY brand_id, product_id, start_date, price_list, id";
+
+    static final String FINAL_PRICE_SQL = PRICE_COLUMNS + """
+        WHERE brand_id = :brandId
+        AND product_id = :productId
+        AND :date BETWEEN start_date AND end_date
+        ORDER BY priority DESC, start_date DESC, price_list DESC, end_date DESC, price DESC, curr DESC
+        FETCH FIRST 1 ROWS ONLY
+        """;
+
+    static final String APPLICABLE_PRICES_SQL = PRICE_COLUMNS + """
+        WHERE brand_id = :brandId
+        AND product_id = :productId
+        AND start_date <= :date
+        AND end_date >= :date
+        """;
+
+    static final String PRICES_IN_SQL = PRICE_COLUMNS + """
+        WHERE brand_id IN (:brandIds)
+        AND product_id IN (:productIds)
+        """;
+
+    static final String FIRST_PAGE_SQL = PRICE_COLUMNS + KEY_ORDER + " FETCH FIRST :limit ROWS ONLY";
+
+    static final String PAGE_AFTER_SQL = PRICE_COLUMNS + """
+        WHERE brand_id > :brandId
+        OR (brand_id = :brandId AND product_id > :productId)
+        OR (brand_id = :brandId AND product_id = :productId AND start_date > :startDate)
+        OR (brand_id = :brandId AND product_id = :productId AND start_date = :startDate AND price_list > :priceList)
+        OR (brand_id = :brandId AND product_id = :productId AND start_date = :startDate AND price_list = :priceList AND id > :id)
+        """ + KEY_ORDER + " FETCH FIRST :limit ROWS ONLY";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Price> findFinalPrice(Integer brandId, Long productId, LocalDateTime date) {
+        return databaseClient.sql(FINAL_PRICE_SQL)
+                .bind("brandId", brandId)
+                .bind("productId", productId)
+                .bind("date", date)
+                .map(R2dbcPriceRepositoryAdapter::toPrice)
+                .one();
+    }
+
+    @Override
+    public Flux<Price> findFinalPriceWithConvention(Integer brandId, Long productId, LocalDateTime date) {
+        return databaseClient.sql(APPLICABLE_PRICES_SQL)
+                .bind("brandId", brandId)
+                .bind("productId", productId)
+                .bind("date", date)
+                .map(R2dbcPriceRepositoryAdapter::toPrice)
+                .all();
+    }
+
+    /**
+     * Una sola consulta para todo el lote; DatabaseClient expande las colecciones de las listas IN
+     */
+    @Override
+    public Mono<List<PriceWindow>> findPriceWindows(List<PriceQuery> queries) {
+        if (queries.isEmpty()) {
+            return Mono.just(List.of());
+        }
+
+        Set<Integer> brandIds = queries.stream().map(PriceQuery::brandId).collect(Collectors.toSet());
+        Set<Long> productIds = queries.stream().map(PriceQuery::productId).collect(Collectors.toSet());
+        return databaseClient.sql(PRICES_IN_SQL)
+                .bind("brandIds", brandIds)
+                .bind("productIds", productIds)
+                .map(R2dbcPriceRepositoryAdapter::toPrice)
+                .all()
+                .collect(Collectors.groupingBy(price -> new ProductKey(price.brandId(), price.productId())))
+                .map(pricesByProduct -> windowsOf(queries, pricesByProduct));
+    }
+
+    @Override
+    public Flux<Price> findAll() {
+        return databaseClient.sql(PRICE_COLUMNS + KEY_ORDER)
+                .map(R2dbcPriceRepositoryAdapter::toPrice)
+                .all();
+    }
+
+    @Override
+    public Flux<Price> findPage(PriceCursor after, int limit) {
+        if (after == null) {
+            return databaseClient.sql(FIRST_PAGE_SQL)
+                    .bind("limit", limit)
+                    .map(R2dbcPriceRepositoryAdapter::toPrice)
+                    .all();
+        }
+        return databaseClient.sql(PAGE_AFTER_SQL)
+                .bind("brandId", after.brandId())
+                .bind("productId", after.productId())
+                .bind("startDate", after.startDate())
+                .bind("priceList", after.priceList())
+                .bind("id", after.id())
+                .bind("limit", limit)
+                .map(R2dbcPriceRepositoryAdapter::toPrice)
+                .all();
+    }
+
+    private static List<PriceWindow> windowsOf(List<PriceQuery> queries, Map<ProductKey, List<Price>> pricesByProduct) {
+        return queries.stream()
+                .map(query -> PriceWindow.of(
+                        pricesByProduct.getOrDefault(new ProductKey(query.brandId(), query.productId()), List.of()),
+                        query.date()))
+                .toList();
+    }
+
+    /**
+     * Lee la fila por posición en el orden de {@link #PRICE_COLUMNS}; product_id e id son INTEGER en la tabla
+     */
+    static Price toPrice(Readable row) {
+        return new Price(
+                row.get(0, Integer.class),
+                row.get(1, LocalDateTime.class),
+                row.get(2, LocalDateTime.class),
+                row.get(3, Integer.class),
+                ((Number) row.get(4)).longValue(),
+                row.get(5, Integer.class),
+                row.get(6, BigDecimal.class),
+                row.get(7, String.class),
+                ((Number) row.get(8)).longValue());
+    }
+
+    private record ProductKey(Integer brandId, Long productId) {
+    }
+}
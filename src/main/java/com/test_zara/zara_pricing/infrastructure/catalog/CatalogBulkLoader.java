@@ -0,0 +1,119 @@
+package com.test_zara.zara_pricing.infrastructure.catalog;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Inserta un {@link SyntheticCatalog} en las tablas brands y prices con sentencias preparadas por lotes y un
+ * commit por lote, sin pasar por JPA. Las marcas que ya existen (la 1 de schema.sql) se conservan.
+ * Solo usa SQL estándar, así que sirve para H2 y para cualquier base con el mismo esquema.
+ */
+public final class CatalogBulkLoader {
+
+    static final String INSERT_BRAND_SQL = "INSERT INTO brands (id, brand_name) VALUES (?, ?)";
+
+    static final String INSERT_PRICE_SQL = """
+            INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, curr)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private final int batchSize;
+
+    public CatalogBulkLoader(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize debe ser positivo");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Devuelve el número de tarifas insertadas; si algo falla se deshace el lote en curso
+     */
+    public long load(Connection connection, SyntheticCatalog catalog) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            insertMissingBrands(connection, catalog);
+            long rows = insertPrices(connection, catalog);
+            analyze(connection);
+            return rows;
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void insertMissingBrands(Connection connection, SyntheticCatalog catalog) throws SQLException {
+        Set<Integer> existing = new HashSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT id FROM brands")) {
+            while (rows.next()) {
+                existing.add(rows.getInt(1));
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_BRAND_SQL)) {
+            for (int brandId = 1; brandId <= catalog.brands(); brandId++) {
+                if (!existing.contains(brandId)) {
+                    insert.setInt(1, brandId);
+                    insert.setString(2, catalog.brandName(brandId));
+                    insert.addBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private long insertPrices(Connection connection, SyntheticCatalog catalog) throws SQLException {
+        long rows = 0;
+        int pending = 0;
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_PRICE_SQL)) {
+            for (int index = 0; index < catalog.products(); index++) {
+                for (Price price : catalog.product(index)) {
+                    insert.setInt(1, price.brandId());
+                    insert.setTimestamp(2, Timestamp.valueOf(price.startDate()));
+                    insert.setTimestamp(3, Timestamp.valueOf(price.endDate()));
+                    insert.setInt(4, price.priceList());
+                    insert.setLong(5, price.productId());
+                    insert.setInt(6, price.priority());
+                    insert.setBigDecimal(7, price.price());
+                    insert.setString(8, price.currency());
+                    insert.addBatch();
+                    rows++;
+                    if (++pending == batchSize) {
+                        insert.executeBatch();
+                        connection.commit();
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0) {
+                insert.executeBatch();
+                connection.commit();
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * En H2, estadísticas al día para el planificador después de la carga
+     */
+    private static void analyze(Connection connection) throws SQLException {
+        if (!connection.getMetaData().getDatabaseProductName().equals("H2")) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+        connection.commit();
+    }
+}
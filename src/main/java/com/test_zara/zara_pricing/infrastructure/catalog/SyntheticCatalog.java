@@ -0,0 +1,127 @@
+package com.test_zara.zara_pricing.infrastructure.catalog;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Catálogo de tarifas sintético y determinista: con la misma semilla y los mismos tamaños genera exactamente las
+ * mismas filas, y cada producto depende solo de la semilla y de su posición, así que se puede generar por partes.
+ * <ul>
+ *     <li>Las marcas siguen una distribución de Zipf: la 1 (ZARA) tiene la mayor parte de los productos.</li>
+ *     <li>Cada producto tiene una tarifa base de prioridad 0 que cubre todo el periodo y promociones solapadas de
+ *     prioridad 1 a 3, de una hora a 30 días, con descuentos del 5 % al 50 %.</li>
+ *     <li>El número de tarifas por producto sigue una cola de Pareto: casi todos tienen pocas y unos pocos llegan a
+ *     maxPricesPerProduct.</li>
+ * </ul>
+ */
+public final class SyntheticCatalog {
+
+    public static final long FIRST_PRODUCT_ID = 1_000_000L;
+
+    public static final LocalDateTime PERIOD_START = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+
+    public static final LocalDateTime PERIOD_END = LocalDateTime.of(2021, 12, 31, 23, 59, 59);
+
+    private static final String[] BRAND_NAMES = {
+            "ZARA", "PULL&BEAR", "MASSIMO DUTTI", "BERSHKA", "STRADIVARIUS", "OYSHO", "ZARA HOME", "LEFTIES"
+    };
+
+    private static final String CURRENCY = "EUR";
+
+    /**
+     * Exponente de la cola de tarifas por producto: P(tarifas >= k) = k^-1.5
+     */
+    private static final double PRICES_PER_PRODUCT_ALPHA = 1.5;
+
+    private static final long PERIOD_MINUTES = Duration.between(PERIOD_START, PERIOD_END).toMinutes();
+
+    private static final double MIN_PROMOTION_MINUTES = Math.log(60);
+
+    private static final double MAX_PROMOTION_MINUTES = Math.log(60 * 24 * 30);
+
+    private final long seed;
+
+    private final int brands;
+
+    private final int products;
+
+    private final int maxPricesPerProduct;
+
+    private final double[] brandShares;
+
+    public SyntheticCatalog(long seed, int brands, int products, int maxPricesPerProduct) {
+        if (brands <= 0 || products <= 0 || maxPricesPerProduct <= 0) {
+            throw new IllegalArgumentException("brands, products y maxPricesPerProduct deben ser positivos");
+        }
+        if (FIRST_PRODUCT_ID + products > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Demasiados productos para la columna product_id");
+        }
+        this.seed = seed;
+        this.brands = brands;
+        this.products = products;
+        this.maxPricesPerProduct = maxPricesPerProduct;
+        this.brandShares = cumulativeZipf(brands);
+    }
+
+    public int brands() {
+        return brands;
+    }
+
+    public int products() {
+        return products;
+    }
+
+    public String brandName(int brandId) {
+        return brandId <= BRAND_NAMES.length ? BRAND_NAMES[brandId - 1] : "BRAND " + brandId;
+    }
+
+    /**
+     * Tarifas del producto en la posición index (0..products-1), con price list 1..n
+     */
+    public List<Price> product(int index) {
+        SplittableRandom random = new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L));
+        Integer brandId = 1 + rank(brandShares, random.nextDouble());
+        Long productId = FIRST_PRODUCT_ID + index;
+        int count = (int) Math.min(maxPricesPerProduct,
+                Math.floor(Math.pow(1.0 - random.nextDouble(), -1.0 / PRICES_PER_PRODUCT_ALPHA)));
+
+        BigDecimal base = BigDecimal.valueOf(random.nextInt(5, 200) * 100L + 95, 2);
+        List<Price> prices = new ArrayList<>(count);
+        prices.add(new Price(brandId, PERIOD_START, PERIOD_END, 1, productId, 0, base, CURRENCY));
+        for (int priceList = 2; priceList <= count; priceList++) {
+            long minutes = (long) Math.exp(random.nextDouble(MIN_PROMOTION_MINUTES, MAX_PROMOTION_MINUTES));
+            LocalDateTime start = PERIOD_START.plusMinutes(random.nextLong(PERIOD_MINUTES - minutes));
+            LocalDateTime end = start.plusMinutes(minutes).minusSeconds(1);
+            BigDecimal amount = base.multiply(BigDecimal.valueOf(random.nextInt(50, 96), 2))
+                    .setScale(2, RoundingMode.HALF_UP);
+            prices.add(new Price(brandId, start, end, priceList, productId, random.nextInt(1, 4), amount, CURRENCY));
+        }
+        return prices;
+    }
+
+    private static double[] cumulativeZipf(int n) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / (k + 1);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int rank(double[] cumulative, double value) {
+        int index = Arrays.binarySearch(cumulative, value);
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,94 @@
+package com.test_zara.zara_pricing.infrastructure.catalog;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Genera el {@link SyntheticCatalog} sin arrancar Spring, como CSV o directamente en una base por JDBC (las tablas
+ * brands y prices deben existir). Opciones --clave=valor:
+ * <pre>
+ * --seed=35455 --brands=8 --products=1000000 --max-prices-per-product=200
+ * --output=prices.csv                       (por defecto, salida estándar)
+ * --jdbc-url=jdbc:h2:... --user=sa --password= --batch-size=5000
+ * </pre>
+ * El CSV tiene cabecera y las columnas de prices sin id; en H2 se carga con
+ * {@code INSERT INTO prices (...) SELECT * FROM CSVREAD('prices.csv')}.
+ */
+public final class SyntheticCatalogCli {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String CSV_HEADER = "brand_id,start_date,end_date,price_list,product_id,priority,price,curr";
+
+    private SyntheticCatalogCli() {
+    }
+
+    public static void main(String[] args) throws IOException, SQLException {
+        Map<String, String> options = parse(args);
+        SyntheticCatalog catalog = new SyntheticCatalog(
+                Long.parseLong(options.getOrDefault("seed", "35455")),
+                Integer.parseInt(options.getOrDefault("brands", "8")),
+                Integer.parseInt(options.getOrDefault("products", "1000000")),
+                Integer.parseInt(options.getOrDefault("max-prices-per-product", "200")));
+
+        long start = System.nanoTime();
+        long rows;
+        if (options.containsKey("jdbc-url")) {
+            CatalogBulkLoader loader = new CatalogBulkLoader(Integer.parseInt(options.getOrDefault("batch-size", "5000")));
+            try (Connection connection = DriverManager.getConnection(
+                    options.get("jdbc-url"), options.getOrDefault("user", "sa"), options.getOrDefault("password", ""))) {
+                rows = loader.load(connection, catalog);
+            }
+        } else if (options.containsKey("output")) {
+            try (Writer out = Files.newBufferedWriter(Path.of(options.get("output")), StandardCharsets.UTF_8)) {
+                rows = writeCsv(out, catalog);
+            }
+        } else {
+            Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+            rows = writeCsv(out, catalog);
+            out.flush();
+        }
+        System.err.printf("%d tarifas de %d productos en %d ms%n",
+                rows, catalog.products(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    static long writeCsv(Writer out, SyntheticCatalog catalog) throws IOException {
+        out.write(CSV_HEADER);
+        out.write('\n');
+        long rows = 0;
+        for (int index = 0; index < catalog.products(); index++) {
+            for (Price price : catalog.product(index)) {
+                out.write(price.brandId() + "," + TIMESTAMP.format(price.startDate()) + ","
+                        + TIMESTAMP.format(price.endDate()) + "," + price.priceList() + "," + price.productId() + ","
+                        + price.priority() + "," + price.price().toPlainString() + "," + price.currency() + "\n");
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Opción no válida, se espera --clave=valor: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
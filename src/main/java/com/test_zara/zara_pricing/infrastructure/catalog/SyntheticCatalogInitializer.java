@@ -0,0 +1,50 @@
+package com.test_zara.zara_pricing.infrastructure.catalog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Ejecuta schema.sql como el inicializador de Spring Boot y después carga el catálogo sintético. Al ser el
+ * inicializador de la base, JPA, JdbcTemplate y el índice en memoria no arrancan hasta que termina la carga.
+ */
+@Slf4j
+public class SyntheticCatalogInitializer extends SqlDataSourceScriptDatabaseInitializer {
+
+    private final DataSource dataSource;
+
+    private final SyntheticCatalog catalog;
+
+    private final CatalogBulkLoader loader;
+
+    public SyntheticCatalogInitializer(
+            DataSource dataSource,
+            SqlInitializationProperties properties,
+            SyntheticCatalog catalog,
+            CatalogBulkLoader loader
+    ) {
+        super(dataSource, properties);
+        this.dataSource = dataSource;
+        this.catalog = catalog;
+        this.loader = loader;
+    }
+
+    @Override
+    public boolean initializeDatabase() {
+        boolean initialized = super.initializeDatabase();
+
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            long rows = loader.load(connection, catalog);
+            log.info("Catálogo sintético cargado: {} tarifas de {} productos y {} marcas en {} ms",
+                    rows, catalog.products(), catalog.brands(), (System.nanoTime() - start) / 1_000_000);
+        } catch (SQLException e) {
+            throw new IllegalStateException("No se ha podido cargar el catálogo sintético", e);
+        }
+        return initialized;
+    }
+}
@@ -1,17 +1,20 @@
 package com.test_zara.zara_pricing.infrastructure.configs;
 
 
+import com.test_zara.zara_pricing.infrastructure.avro.PriceReadSummary;
 import com.test_zara.zara_pricing.infrastructure.avro.PricingEvent;
 import io.confluent.kafka.serializers.KafkaAvroSerializer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -24,8 +27,32 @@ public class KafkaConfig {
     @Value("${spring.kafka.producer.properties.schema.registry.url}")
     private String schemaRegistryUrl;
 
+    @Value("${pricing.events.producer.max-block:1s}")
+    private Duration maxBlock;
+
     @Bean
     public ProducerFactory<String, PricingEvent> producerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerProperties());
+    }
+
+    @Bean
+    public KafkaTemplate<String, PricingEvent> kafkaTemplate() {
+        return new KafkaTemplate<>(producerFactory());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "pricing.events.reads.mode", havingValue = "aggregated")
+    public ProducerFactory<String, PriceReadSummary> priceReadSummaryProducerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerProperties());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "pricing.events.reads.mode", havingValue = "aggregated")
+    public KafkaTemplate<String, PriceReadSummary> priceReadSummaryKafkaTemplate() {
+        return new KafkaTemplate<>(priceReadSummaryProducerFactory());
+    }
+
+    private Map<String, Object> producerProperties() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
@@ -38,11 +65,8 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 16384);
         configProps.put(ProducerConfig.LINGER_MS_CONFIG, 1);
         configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, 33554432);
-        return new DefaultKafkaProducerFactory<>(configProps);
-    }
-
-    @Bean
-    public KafkaTemplate<String, PricingEvent> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        // Cota de lo que puede bloquear send esperando metadatos antes de que el cortocircuito se abra
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlock.toMillis());
+        return configProps;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.test_zara.zara_pricing.infrastructure.configs;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.ports.out.PriceOutputPort;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.cache.CachingPriceOutputPort;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.cache.CachingPriceOutputPort.PriceCacheKey;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.cache.KnownPriceKeys;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.List;
+
+/**
+ * Envuelve el origen de precios (cualificador "source": el adaptador de persistencia activo detrás de
+ * {@link PriceCoalescingConfig}) en una caché de lectura; se desactiva con pricing.cache.enabled=false.
+ * Los productos conocidos se cargan al arrancar recorriendo la tabla en streaming: la aplicación no escribe tarifas, así que el conjunto
+ * solo cambia si se llama a {@link CachingPriceOutputPort#refresh}.
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "pricing.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class PriceCacheConfig {
+
+    private static final String CACHE_NAME = "prices";
+
+    @Value("${pricing.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${pricing.cache.windows-per-product:4}")
+    private int windowsPerProduct;
+
+    @Value("${pricing.cache.known-keys-filter:true}")
+    private boolean knownKeysFilter;
+
+    @Bean
+    public Cache<PriceCacheKey, List<PriceWindow>> priceLookupCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public PriceOutputPort cachingPriceOutputPort(
+            @Qualifier("source") PriceOutputPort priceSource,
+            Cache<PriceCacheKey, List<PriceWindow>> priceLookupCache,
+            MeterRegistry meterRegistry
+    ) {
+        KnownPriceKeys knownKeys = knownKeysFilter
+                ? KnownPriceKeys.from(priceSource)
+                : KnownPriceKeys.all();
+        log.info("Filtro de productos conocidos {}: {} claves",
+                knownKeys.isFiltering() ? "activo" : "inactivo", knownKeys.size());
+        CachingPriceOutputPort cachingPort = new CachingPriceOutputPort(
+                priceSource, priceLookupCache, knownKeys, windowsPerProduct);
+
+        // Mismos nombres que CaffeineCacheMetrics, pero un acierto exige que la ventana cubra la fecha
+        FunctionCounter.builder("cache.gets", cachingPort, CachingPriceOutputPort::hitCount)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cachingPort, CachingPriceOutputPort::missCount)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cachingPort, CachingPriceOutputPort::unknownKeyCount)
+                .tags("cache", CACHE_NAME, "result", "unknown")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", cachingPort, CachingPriceOutputPort::evictionCount)
+                .tags("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", cachingPort, CachingPriceOutputPort::estimatedSize)
+                .tags("cache", CACHE_NAME)
+                .register(meterRegistry);
+        return cachingPort;
+    }
+}
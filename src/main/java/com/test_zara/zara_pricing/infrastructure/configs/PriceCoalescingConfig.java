@@ -0,0 +1,74 @@
+package com.test_zara.zara_pricing.infrastructure.configs;
+
+import com.test_zara.zara_pricing.application.coalescing.CoalescingPriceOutputPort;
+import com.test_zara.zara_pricing.domain.ports.out.PriceOutputPort;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Agrupa las consultas idénticas simultáneas justo delante del adaptador de persistencia.
+ * Con la caché de lectura activa queda detrás de ella con el cualificador "source", de modo que solo se agrupan
+ * los fallos; sin caché es el puerto principal. Se desactiva con pricing.coalescing.enabled=false.
+ */
+@Configuration
+@Slf4j
+public class PriceCoalescingConfig {
+
+    @Value("${pricing.coalescing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${pricing.coalescing.max-wait:2s}")
+    private Duration maxWait;
+
+    @Bean
+    @Qualifier("source")
+    @ConditionalOnProperty(name = "pricing.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public PriceOutputPort coalescingPriceSource(
+            @Qualifier("persistence") PriceOutputPort persistenceAdapter,
+            MeterRegistry meterRegistry
+    ) {
+        return coalescing(persistenceAdapter, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "pricing.cache.enabled", havingValue = "false")
+    public PriceOutputPort coalescingPriceOutputPort(
+            @Qualifier("persistence") PriceOutputPort persistenceAdapter,
+            MeterRegistry meterRegistry
+    ) {
+        return coalescing(persistenceAdapter, meterRegistry);
+    }
+
+    private PriceOutputPort coalescing(PriceOutputPort persistenceAdapter, MeterRegistry meterRegistry) {
+        if (!enabled) {
+            log.info("Agrupación de consultas de precios desactivada");
+            return persistenceAdapter;
+        }
+        CoalescingPriceOutputPort coalescingPort = new CoalescingPriceOutputPort(persistenceAdapter, maxWait);
+
+        FunctionCounter.builder("pricing.lookups", coalescingPort, CoalescingPriceOutputPort::executedCount)
+                .tags("result", "executed")
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.lookups", coalescingPort, CoalescingPriceOutputPort::coalescedCount)
+                .tags("result", "coalesced")
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.lookups.wait.timeouts", coalescingPort, CoalescingPriceOutputPort::timedOutCount)
+                .register(meterRegistry);
+        Gauge.builder("pricing.lookups.in.flight", coalescingPort, CoalescingPriceOutputPort::inFlightCount)
+                .register(meterRegistry);
+        Gauge.builder("pricing.lookups.coalescing.ratio", coalescingPort, CoalescingPriceOutputPort::coalescingRatio)
+                .register(meterRegistry);
+        return coalescingPort;
+    }
+}
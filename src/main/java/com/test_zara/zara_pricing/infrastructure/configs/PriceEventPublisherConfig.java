@@ -0,0 +1,220 @@
+package com.test_zara.zara_pricing.infrastructure.configs;
+
+import com.test_zara.zara_pricing.domain.ports.out.PriceEventPublisher;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.AsyncPriceEventPublisher;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.AsyncPriceEventPublisher.OverflowPolicy;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.KafkaPriceReadSummaryPublisher;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.PriceReadAggregator;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.PublisherCircuitBreaker;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.spool.PricingEventSpool;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.spool.SpoolReplayer;
+import com.test_zara.zara_pricing.infrastructure.avro.PricingEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Compone la publicación de eventos de precio alrededor del publicador de Kafka (cualificador "broker").
+ * El productor se protege con un cortocircuito, lo que no se puede publicar se guarda en un spool en disco que se
+ * reenvía al recuperarse el broker y, salvo pricing.events.async.enabled=false, se pone delante una cola acotada
+ * con hilo de vaciado para que ninguna petición HTTP espere al productor.
+ * Con pricing.events.reads.mode=aggregated las lecturas no se publican una a una: el {@link PriceReadAggregator}
+ * las resume por producto y cadena en el topic de resúmenes.
+ */
+@Configuration
+@Slf4j
+public class PriceEventPublisherConfig {
+
+    @Value("${pricing.events.async.capacity:10000}")
+    private int capacity;
+
+    @Value("${pricing.events.async.batch-size:500}")
+    private int batchSize;
+
+    @Value("${pricing.events.async.overflow-policy:drop}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${pricing.events.async.sample-rate:10}")
+    private int sampleRate;
+
+    @Value("${pricing.events.async.block-timeout:5ms}")
+    private Duration blockTimeout;
+
+    @Value("${pricing.events.async.shutdown-timeout:5s}")
+    private Duration shutdownTimeout;
+
+    @Value("${pricing.events.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${pricing.events.circuit-breaker.open-duration:10s}")
+    private Duration openDuration;
+
+    @Value("${pricing.events.circuit-breaker.slow-call-threshold:200ms}")
+    private Duration slowCallThreshold;
+
+    @Bean
+    public PublisherCircuitBreaker publisherCircuitBreaker(MeterRegistry meterRegistry) {
+        PublisherCircuitBreaker circuitBreaker = new PublisherCircuitBreaker(failureThreshold, openDuration, slowCallThreshold);
+
+        Gauge.builder("pricing.events.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("Estado del cortocircuito del productor: 0 cerrado, 1 abierto, 2 semiabierto")
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.events.circuit.rejected", circuitBreaker, PublisherCircuitBreaker::rejectedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.events.circuit.opened", circuitBreaker, PublisherCircuitBreaker::openedCount)
+                .register(meterRegistry);
+        return circuitBreaker;
+    }
+
+    @Value("${pricing.events.spool.enabled:true}")
+    private boolean spoolEnabled;
+
+    @Value("${pricing.events.spool.directory:/var/lib/zara-pricing/spool}")
+    private Path spoolDirectory;
+
+    @Value("${pricing.events.spool.segment-size:16MB}")
+    private DataSize segmentSize;
+
+    @Value("${pricing.events.spool.max-size:256MB}")
+    private DataSize spoolMaxSize;
+
+    @Value("${pricing.events.spool.replay-rate:1000}")
+    private int replayRate;
+
+    @Value("${pricing.events.spool.max-replay-rate:20000}")
+    private int maxReplayRate;
+
+    @Value("${pricing.events.spool.replay-timeout:5s}")
+    private Duration replayTimeout;
+
+    @Value("${kafka.topics.pricing-events}")
+    private String pricingEventsTopic;
+
+    /**
+     * Si el directorio no se puede abrir (por ejemplo, otra instancia lo tiene bloqueado) se sigue sin spool
+     */
+    @Bean(destroyMethod = "close")
+    public PricingEventSpool pricingEventSpool(MeterRegistry meterRegistry) {
+        PricingEventSpool spool = PricingEventSpool.disabled();
+        if (spoolEnabled) {
+            try {
+                spool = PricingEventSpool.open(spoolDirectory, Math.toIntExact(segmentSize.toBytes()), spoolMaxSize.toBytes());
+            } catch (IOException e) {
+                log.warn("Spool de eventos de precio desactivado: {}", e.getMessage());
+            }
+        }
+
+        Gauge.builder("pricing.events.spool.pending", spool, PricingEventSpool::pendingCount)
+                .description("Eventos de precio en disco pendientes de reenviar")
+                .register(meterRegistry);
+        Gauge.builder("pricing.events.spool.bytes", spool, PricingEventSpool::sizeBytes)
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.events.spool.appended", spool, PricingEventSpool::appendedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.events.spool.dropped", spool, PricingEventSpool::droppedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.events.spool.replayed", spool, PricingEventSpool::replayedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.events.spool.corrupted", spool, PricingEventSpool::corruptedCount)
+                .description("Eventos de precio en disco descartados por un CRC roto")
+                .register(meterRegistry);
+        return spool;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public SpoolReplayer spoolReplayer(
+            PricingEventSpool pricingEventSpool,
+            KafkaTemplate<String, PricingEvent> kafkaTemplate,
+            PublisherCircuitBreaker publisherCircuitBreaker
+    ) {
+        return new SpoolReplayer(pricingEventSpool, kafkaTemplate, publisherCircuitBreaker, pricingEventsTopic,
+                replayRate, maxReplayRate, replayTimeout);
+    }
+
+    @Value("${pricing.events.async.enabled:true}")
+    private boolean asyncEnabled;
+
+    /**
+     * Solo con lecturas en bruto: en modo agregado el agregador ya es el publicador principal.
+     * Con hilos virtuales (spring.threads.virtual.enabled) la cola se crea aunque async.enabled sea false: el
+     * productor de Kafka espera los metadatos del broker dentro de un monitor y fijaría el hilo portador de la
+     * petición hasta max.block.ms
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @Primary
+    @ConditionalOnExpression("(${pricing.events.async.enabled:true} or ${spring.threads.virtual.enabled:false})"
+            + " and '${pricing.events.reads.mode:raw}' == 'raw'")
+    public AsyncPriceEventPublisher asyncPriceEventPublisher(
+            @Qualifier("broker") PriceEventPublisher brokerPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        if (!asyncEnabled) {
+            log.warn("pricing.events.async.enabled=false ignorado con hilos virtuales: los eventos pasan por la cola asíncrona");
+        }
+        AsyncPriceEventPublisher publisher = new AsyncPriceEventPublisher(
+                brokerPublisher, capacity, batchSize, overflowPolicy, sampleRate, blockTimeout, shutdownTimeout);
+
+        Gauge.builder("pricing.events.queue.depth", publisher, AsyncPriceEventPublisher::queueDepth)
+                .description("Eventos de precio pendientes de publicar")
+                .register(meterRegistry);
+        Gauge.builder("pricing.events.queue.capacity", publisher, AsyncPriceEventPublisher::capacity)
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.events.dropped", publisher, AsyncPriceEventPublisher::droppedCount)
+                .tag("policy", overflowPolicy.name().toLowerCase())
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.events.published", publisher, AsyncPriceEventPublisher::publishedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.events.failed", publisher, AsyncPriceEventPublisher::failedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.events.batches", publisher, AsyncPriceEventPublisher::batchCount)
+                .register(meterRegistry);
+        return publisher;
+    }
+
+    @Value("${pricing.events.reads.flush-interval:10s}")
+    private Duration readsFlushInterval;
+
+    @Value("${pricing.events.reads.max-keys:10000}")
+    private int readsMaxKeys;
+
+    @Value("${pricing.events.reads.shutdown-timeout:5s}")
+    private Duration readsShutdownTimeout;
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @Primary
+    @ConditionalOnProperty(name = "pricing.events.reads.mode", havingValue = "aggregated")
+    public PriceReadAggregator priceReadAggregator(
+            KafkaPriceReadSummaryPublisher summaryPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        PriceReadAggregator aggregator = new PriceReadAggregator(
+                summaryPublisher, readsFlushInterval, readsMaxKeys, readsShutdownTimeout);
+
+        Gauge.builder("pricing.events.reads.pending-keys", aggregator, PriceReadAggregator::pendingKeys)
+                .description("Claves (productId, brandId) con lecturas pendientes de resumir")
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.events.reads.recorded", aggregator, PriceReadAggregator::recordedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.events.reads.flushed", aggregator, PriceReadAggregator::flushedReadCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.events.reads.summaries", aggregator, PriceReadAggregator::summaryCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("pricing.events.reads.failed-flushes", aggregator, PriceReadAggregator::failedFlushCount)
+                .register(meterRegistry);
+        return aggregator;
+    }
+}
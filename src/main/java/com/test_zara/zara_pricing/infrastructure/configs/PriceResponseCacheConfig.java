@@ -0,0 +1,40 @@
+package com.test_zara.zara_pricing.infrastructure.configs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.infrastructure.adapters.input.rest.PriceResponseCache;
+import com.test_zara.zara_pricing.infrastructure.mappers.PriceMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caché de respuestas JSON ya serializadas, con su ETag, de /final-price y /final-price-convention, usando el mismo
+ * ObjectMapper que los conversores de Spring MVC para que los bytes sean idénticos.
+ */
+@Configuration
+public class PriceResponseCacheConfig {
+
+    private static final String CACHE_NAME = "price-responses";
+
+    @Value("${pricing.http.response-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Bean
+    public PriceResponseCache priceResponseCache(
+            PriceMapper priceMapper,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        Cache<Price, PriceResponseCache.EncodedPrice> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        return new PriceResponseCache(cache, priceMapper, objectMapper);
+    }
+}
@@ -0,0 +1,104 @@
+package com.test_zara.zara_pricing.infrastructure.configs;
+
+import com.test_zara.zara_pricing.application.services.impl.ReactivePriceServiceImpl;
+import com.test_zara.zara_pricing.domain.ports.in.ReactivePriceInputPort;
+import com.test_zara.zara_pricing.domain.ports.out.PriceEventPublisher;
+import com.test_zara.zara_pricing.domain.ports.out.ReactivePriceOutputPort;
+import com.test_zara.zara_pricing.domain.services.PriceDomainService;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.r2dbc.R2dbcPriceRepositoryAdapter;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Pila reactiva del perfil reactive (spring.main.web-application-type=reactive): WebFlux sobre Netty, el puerto de
+ * salida sobre un pool R2DBC contra la misma base de datos H2 y la publicación de eventos en un planificador propio.
+ * La autoconfiguración de R2DBC está excluida en application.yml: su gestor de transacciones reactivo competiría
+ * con el de JPA, que sigue activo para el resto de la aplicación.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactivePricingConfig {
+
+    @Value("${pricing.reactive.r2dbc.url}")
+    private String url;
+
+    @Value("${spring.datasource.username:sa}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    @Value("${pricing.reactive.r2dbc.pool-initial-size:2}")
+    private int poolInitialSize;
+
+    @Value("${pricing.reactive.r2dbc.pool-max-size:10}")
+    private int poolMaxSize;
+
+    @Value("${pricing.reactive.events.threads:2}")
+    private int eventThreads;
+
+    @Value("${pricing.reactive.events.queue-capacity:10000}")
+    private int eventQueueCapacity;
+
+    /**
+     * Con Tomcat en el classpath Spring Boot elegiría Tomcat también para WebFlux; se fija Netty
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool r2dbcConnectionPool() {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        log.info("Pool R2DBC: {} con {}-{} conexiones", url, poolInitialSize, poolMaxSize);
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(poolInitialSize)
+                .maxSize(poolMaxSize)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionPool r2dbcConnectionPool) {
+        return DatabaseClient.create(r2dbcConnectionPool);
+    }
+
+    @Bean
+    public ReactivePriceOutputPort r2dbcPriceRepositoryAdapter(DatabaseClient databaseClient) {
+        return new R2dbcPriceRepositoryAdapter(databaseClient);
+    }
+
+    /**
+     * Hilos donde se entregan los eventos al publicador; la cola acotada descarta en lugar de retener memoria
+     * si el publicador se bloquea
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler pricingEventScheduler() {
+        return Schedulers.newBoundedElastic(eventThreads, eventQueueCapacity, "pricing-events");
+    }
+
+    @Bean
+    public ReactivePriceInputPort reactivePriceService(
+            ReactivePriceOutputPort r2dbcPriceRepositoryAdapter,
+            PriceDomainService priceDomainService,
+            PriceEventPublisher priceEventPublisher,
+            Scheduler pricingEventScheduler
+    ) {
+        return new ReactivePriceServiceImpl(r2dbcPriceRepositoryAdapter, priceDomainService, priceEventPublisher, pricingEventScheduler);
+    }
+}
@@ -0,0 +1,51 @@
+package com.test_zara.zara_pricing.infrastructure.configs;
+
+import com.test_zara.zara_pricing.infrastructure.catalog.CatalogBulkLoader;
+import com.test_zara.zara_pricing.infrastructure.catalog.SyntheticCatalog;
+import com.test_zara.zara_pricing.infrastructure.catalog.SyntheticCatalogInitializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+/**
+ * Perfil synthetic-catalog: sustituye al inicializador de base de datos de Spring Boot por uno que, tras
+ * schema.sql, carga un catálogo sintético del tamaño configurado en pricing.synthetic-catalog
+ */
+@Configuration
+@Profile("synthetic-catalog")
+public class SyntheticCatalogConfig {
+
+    @Value("${pricing.synthetic-catalog.seed}")
+    private long seed;
+
+    @Value("${pricing.synthetic-catalog.brands}")
+    private int brands;
+
+    @Value("${pricing.synthetic-catalog.products}")
+    private int products;
+
+    @Value("${pricing.synthetic-catalog.max-prices-per-product}")
+    private int maxPricesPerProduct;
+
+    @Value("${pricing.synthetic-catalog.batch-size}")
+    private int batchSize;
+
+    @Bean
+    public SyntheticCatalog syntheticCatalog() {
+        return new SyntheticCatalog(seed, brands, products, maxPricesPerProduct);
+    }
+
+    @Bean
+    public SqlDataSourceScriptDatabaseInitializer syntheticCatalogInitializer(
+            DataSource dataSource,
+            SqlInitializationProperties properties,
+            SyntheticCatalog syntheticCatalog
+    ) {
+        return new SyntheticCatalogInitializer(dataSource, properties, syntheticCatalog, new CatalogBulkLoader(batchSize));
+    }
+}
@@ -0,0 +1,38 @@
+package com.test_zara.zara_pricing.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriceBatchItemRequest {
+
+    @Schema(description = "ID del producto", example = "35455")
+    @NotNull
+    @Positive
+    private Long productId;
+
+    @Schema(description = "ID de la marca", example = "1")
+    @NotNull
+    @Positive
+    private Integer brandId;
+
+    @Schema(description = "Fecha de aplicación",
+            type = "string",
+            example = "2020-06-14 10:00:00")
+    @NotNull
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime date;
+}
@@ -0,0 +1,35 @@
+package com.test_zara.zara_pricing.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@Builder
+public class PriceBatchItemResponse {
+
+    @Schema(description = "ID del producto consultado", example = "35455")
+    private Long productId;
+
+    @Schema(description = "ID de la marca consultada", example = "1")
+    private Integer brandId;
+
+    @Schema(description = "Fecha consultada",
+            type = "string",
+            example = "2020-06-14 10:00:00")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime date;
+
+    @Schema(description = "Indica si existe un precio aplicable", example = "true")
+    private boolean found;
+
+    @Schema(description = "Precio aplicable; ausente cuando found es false")
+    private PriceResponse price;
+}
@@ -0,0 +1,28 @@
+package com.test_zara.zara_pricing.infrastructure.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriceBatchRequest {
+
+    public static final int MAX_ITEMS = 500;
+
+    @Schema(description = "Consultas del lote, como máximo " + MAX_ITEMS)
+    @NotEmpty
+    @Size(max = MAX_ITEMS)
+    private List<@Valid PriceBatchItemRequest> items;
+}
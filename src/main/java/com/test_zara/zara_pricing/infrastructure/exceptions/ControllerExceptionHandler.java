@@ -1,6 +1,8 @@
 package com.test_zara.zara_pricing.infrastructure.exceptions;
 
+import com.test_zara.zara_pricing.domain.exceptions.InvalidPriceCursorException;
 import com.test_zara.zara_pricing.domain.exceptions.PriceNotFoundException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -10,6 +12,7 @@ import org.springframework.web.context.request.WebRequest;
 import java.util.Date;
 
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ControllerExceptionHandler {
 
 	@ExceptionHandler(PriceNotFoundException.class)
@@ -19,4 +22,12 @@ public class ControllerExceptionHandler {
 		);
 		return new ResponseEntity<>(message, HttpStatus.NOT_FOUND);
 	}
+
+	@ExceptionHandler(InvalidPriceCursorException.class)
+	public ResponseEntity<ErrorMessage> handleInvalidPriceCursorException(InvalidPriceCursorException ex, WebRequest request) {
+		ErrorMessage message = new ErrorMessage(
+				HttpStatus.BAD_REQUEST.value(), new Date(), ex.getMessage(), request.getDescription(false)
+		);
+		return new ResponseEntity<>(message, HttpStatus.BAD_REQUEST);
+	}
 }
@@ -0,0 +1,43 @@
+package com.test_zara.zara_pricing.infrastructure.exceptions;
+
+import com.test_zara.zara_pricing.domain.exceptions.InvalidPriceCursorException;
+import com.test_zara.zara_pricing.domain.exceptions.PriceNotFoundException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Date;
+
+/**
+ * Las mismas respuestas de error que {@link ControllerExceptionHandler} para el perfil reactive
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveControllerExceptionHandler {
+
+	@ExceptionHandler(PriceNotFoundException.class)
+	public ResponseEntity<ErrorMessage> handlePriceNotFoundException(PriceNotFoundException ex, ServerWebExchange exchange) {
+		ErrorMessage message = new ErrorMessage(
+				HttpStatus.NOT_FOUND.value(), new Date(), ex.getMessage(), describe(exchange)
+		);
+		return new ResponseEntity<>(message, HttpStatus.NOT_FOUND);
+	}
+
+	@ExceptionHandler(InvalidPriceCursorException.class)
+	public ResponseEntity<ErrorMessage> handleInvalidPriceCursorException(InvalidPriceCursorException ex, ServerWebExchange exchange) {
+		ErrorMessage message = new ErrorMessage(
+				HttpStatus.BAD_REQUEST.value(), new Date(), ex.getMessage(), describe(exchange)
+		);
+		return new ResponseEntity<>(message, HttpStatus.BAD_REQUEST);
+	}
+
+	/**
+	 * Mismo formato que WebRequest.getDescription(false) en servlet
+	 */
+	private static String describe(ServerWebExchange exchange) {
+		return "uri=" + exchange.getRequest().getPath().value();
+	}
+}
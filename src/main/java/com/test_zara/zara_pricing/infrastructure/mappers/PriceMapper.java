@@ -1,13 +1,23 @@
 package com.test_zara.zara_pricing.infrastructure.mappers;
 
 
+import com.test_zara.zara_pricing.domain.exceptions.InvalidPriceCursorException;
 import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceLookup;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
 import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.jpa.entity.PriceEntity;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceBatchItemRequest;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceBatchItemResponse;
 import com.test_zara.zara_pricing.infrastructure.dto.PriceResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
@@ -20,4 +30,45 @@ public interface PriceMapper {
     PriceResponse toDto(Price price);
 
     List<PriceResponse> toDto(List<Price> prices);
+
+    PriceQuery toQuery(PriceBatchItemRequest item);
+
+    List<PriceQuery> toQueries(List<PriceBatchItemRequest> items);
+
+    @Mapping(target = "productId", source = "query.productId")
+    @Mapping(target = "brandId", source = "query.brandId")
+    @Mapping(target = "date", source = "query.date")
+    @Mapping(target = "found", expression = "java(lookup.found())")
+    PriceBatchItemResponse toBatchDto(PriceLookup lookup);
+
+    List<PriceBatchItemResponse> toBatchDto(List<PriceLookup> lookups);
+
+    /**
+     * Cursor opaco para la cabecera de paginación: la clave de la última tarifa en Base64 URL
+     */
+    default String toCursorToken(PriceCursor cursor) {
+        String key = cursor.brandId() + "|" + cursor.productId() + "|" + cursor.startDate() + "|" + cursor.priceList()
+                + "|" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Las tarifas servidas por la API siempre tienen id, así que un cursor sin id no lo ha emitido el servicio y se rechaza
+     */
+    default PriceCursor toCursor(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 5) {
+                throw new InvalidPriceCursorException("Cursor de paginación no válido");
+            }
+            return new PriceCursor(
+                    Integer.valueOf(parts[0]), Long.valueOf(parts[1]), LocalDateTime.parse(parts[2]), Integer.valueOf(parts[3]),
+                    Long.valueOf(parts[4]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidPriceCursorException("Cursor de paginación no válido");
+        }
+    }
 }
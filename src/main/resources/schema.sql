@@ -21,6 +21,10 @@ CREATE TABLE prices(
     FOREIGN KEY(brand_id) REFERENCES brands(id)
 );
 
+-- Igualdad en (brand_id, product_id) y rango en start_date/end_date: las consultas de precio final, por convención,
+-- de ventana y la paginación por clave recorren solo las tarifas del producto
+CREATE INDEX idx_prices_brand_product_dates ON prices(brand_id, product_id, start_date, end_date, priority);
+
 INSERT INTO brands (id, brand_name) VALUES (1, 'ZARA');
 
 INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, curr) VALUES
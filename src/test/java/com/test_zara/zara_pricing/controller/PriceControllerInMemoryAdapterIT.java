@@ -0,0 +1,9 @@
+package com.test_zara.zara_pricing.controller;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "pricing.persistence.adapter=memory")
+@AutoConfigureMockMvc
+class PriceControllerInMemoryAdapterIT extends PriceControllerParameterizedIT {
+}
@@ -1,5 +1,9 @@
 package com.test_zara.zara_pricing.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.ports.in.PriceInputPort;
+import com.test_zara.zara_pricing.infrastructure.mappers.PriceMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -8,13 +12,24 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -24,6 +39,15 @@ class PriceControllerParameterizedIT {
 @Autowired
 private MockMvc mockMvc;
 
+@Autowired
+private PriceInputPort priceInputPort;
+
+@Autowired
+private PriceMapper priceMapper;
+
+@Autowired
+private ObjectMapper objectMapper;
+
 @ParameterizedTest
 @MethodSource("priceTestCases")
 @DisplayName("whenGetFinalPriceThenReturnCorrectPrice")
@@ -81,6 +105,35 @@ private static Stream<Arguments> priceTestCases() {
         Arguments.of("Test 5: 21:00 del día 16", "2020-06-16 21:00:00", 4, "38.95 EUR", "2020-06-15 16:00:00", "2020-12-31 23:59:59")
     );}
 
+@Test
+void whenGetFinalPricesThenReturnPerItemResults() throws Exception {
+    mockMvc.perform(post("/api/v1/rest/prices/final-prices")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                            {"items": [
+                              {"productId": 35455, "brandId": 1, "date": "2020-06-14 16:00:00"},
+                              {"productId": 99999, "brandId": 1, "date": "2020-06-14 16:00:00"},
+                              {"productId": 35455, "brandId": 1, "date": "2020-06-16 21:00:00"}
+                            ]}
+                            """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()", is(3)))
+            .andExpect(jsonPath("$[0].found", is(true)))
+            .andExpect(jsonPath("$[0].price.priceList", is(2)))
+            .andExpect(jsonPath("$[0].price.finalPrice", is("25.45 EUR")))
+            .andExpect(jsonPath("$[1].found", is(false)))
+            .andExpect(jsonPath("$[1].productId", is(99999)))
+            .andExpect(jsonPath("$[2].price.priceList", is(4)));
+}
+
+@Test
+void whenGetFinalPricesWithEmptyBatchThenBadRequest() throws Exception {
+    mockMvc.perform(post("/api/v1/rest/prices/final-prices")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"items\": []}"))
+            .andExpect(status().isBadRequest());
+}
+
 @Test
 void whenInvalidDateThenBadRequest() throws Exception {
     mockMvc.perform(get("/api/v1/rest/prices/final-price")
@@ -89,4 +142,120 @@ void whenInvalidDateThenBadRequest() throws Exception {
                     .param("brandId", "1"))
             .andExpect(status().isBadRequest());
 }
+
+@Test
+void whenGetFinalPriceForPastDateThenETagAndCappedMaxAge() throws Exception {
+    mockMvc.perform(get("/api/v1/rest/prices/final-price")
+                    .param("date", "2020-06-14 16:00:00")
+                    .param("productId", "35455")
+                    .param("brandId", "1"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andExpect(header().string("Cache-Control", "max-age=86400"));
+}
+
+@Test
+void whenFinalPriceIsServedFromEncodedBytesThenBodyMatchesTheDto() throws Exception {
+    Price price = priceInputPort.getFinalPrice(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 35455L, 1);
+
+    for (int i = 0; i < 2; i++) {
+        mockMvc.perform(get("/api/v1/rest/prices/final-price")
+                        .param("date", "2020-06-14 16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(objectMapper.writeValueAsBytes(priceMapper.toDto(price))));
+    }
+}
+
+@Test
+void whenIfNoneMatchIsCurrentThenNotModifiedWithoutBody() throws Exception {
+    for (String endpoint : new String[]{"/api/v1/rest/prices/final-price", "/api/v1/rest/prices/final-price-convention"}) {
+        String etag = mockMvc.perform(get(endpoint)
+                        .param("date", "2020-06-14 10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        MvcResult result = mockMvc.perform(get(endpoint)
+                        .header("If-None-Match", etag)
+                        .param("date", "2020-06-14 21:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andReturn();
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+
+        mockMvc.perform(get(endpoint)
+                        .header("If-None-Match", etag)
+                        .param("date", "2020-06-14 16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList", is(2)));
+    }
+}
+
+@Test
+void whenPriceListIsPagedThenPagesFollowKeyOrderAndCursor() throws Exception {
+    MvcResult first = mockMvc.perform(get("/api/v1/rest/prices/price-list-all")
+                    .param("limit", "3"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()", is(3)))
+            .andExpect(jsonPath("$[0].priceList", is(1)))
+            .andExpect(jsonPath("$[2].priceList", is(3)))
+            .andExpect(header().exists("X-Next-Cursor"))
+            .andReturn();
+
+    mockMvc.perform(get("/api/v1/rest/prices/price-list-all")
+                    .param("limit", "3")
+                    .param("after", first.getResponse().getHeader("X-Next-Cursor")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()", is(1)))
+            .andExpect(jsonPath("$[0].priceList", is(4)))
+            .andExpect(header().doesNotExist("X-Next-Cursor"));
+}
+
+@Test
+void whenCursorIsInvalidThenBadRequest() throws Exception {
+    mockMvc.perform(get("/api/v1/rest/prices/price-list-all")
+                    .param("limit", "3")
+                    .param("after", "not-a-cursor"))
+            .andExpect(status().isBadRequest());
+}
+
+@Test
+void whenCursorHasNoIdThenBadRequest() throws Exception {
+    String cursor = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("1|35455|2020-06-14T00:00|1|null".getBytes(StandardCharsets.UTF_8));
+
+    mockMvc.perform(get("/api/v1/rest/prices/price-list-all")
+                    .param("limit", "3")
+                    .param("after", cursor))
+            .andExpect(status().isBadRequest());
+}
+
+@Test
+void whenPriceListIsStreamedThenReturnOneJsonObjectPerLine() throws Exception {
+    MvcResult started = mockMvc.perform(get("/api/v1/rest/prices/price-list-all")
+                    .param("format", "ndjson"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    String body = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    String[] lines = body.split("\n");
+    assertThat(lines).hasSize(4);
+    assertThat(lines[0]).contains("\"priceList\":1").contains("\"finalPrice\":\"35.50 EUR\"");
+    assertThat(body).endsWith("\n");
+}
 }
@@ -1,39 +1,73 @@
 package com.test_zara.zara_pricing.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceLookup;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.ResolvedPrice;
 import com.test_zara.zara_pricing.domain.ports.in.PriceInputPort;
 import com.test_zara.zara_pricing.fixtures.PriceFixtures;
+import com.test_zara.zara_pricing.infrastructure.adapters.input.api.PriceControllerApi;
 import com.test_zara.zara_pricing.infrastructure.adapters.input.rest.PriceController;
+import com.test_zara.zara_pricing.infrastructure.adapters.input.rest.PriceResponseCache;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceBatchItemRequest;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceBatchItemResponse;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceBatchRequest;
 import com.test_zara.zara_pricing.infrastructure.dto.PriceResponse;
 import com.test_zara.zara_pricing.infrastructure.mappers.PriceMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class PriceControllerUnitTest {
 
+    private static final LocalDateTime NOW = LocalDateTime.of(2020, 6, 14, 15, 0, 0);
+
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private static final String ETAG = "5d41402abc4b2a76b9719d911017c592";
+
     @Mock
     private PriceInputPort priceInputPort;
 
     @Mock
     private PriceMapper priceMapper;
 
-    @InjectMocks
+    @Mock
+    private PriceResponseCache priceResponseCache;
+
     private PriceController priceController;
 
+    @BeforeEach
+    void setUp() {
+        priceController = new PriceController(priceInputPort, priceMapper, new ObjectMapper(), priceResponseCache, CLOCK);
+        ReflectionTestUtils.setField(priceController, "maxAgeCap", Duration.ofDays(1));
+        ReflectionTestUtils.setField(priceController, "liveTolerance", Duration.ofMinutes(5));
+    }
+
     @Test
     void testGetFinalPrice() {
         LocalDateTime date = LocalDateTime.of(2020, 6, 14, 15, 0, 0);
@@ -51,21 +85,22 @@ class PriceControllerUnitTest {
             "EUR"
         );
 
-        PriceResponse mockResponse = PriceResponse.builder()
-                .productId(productId)
-                .brandId(brandId)
-                .finalPrice("25.45 EUR")
-                .build();
+        byte[] mockBody = "{\"productId\":35455,\"brandId\":1,\"finalPrice\":\"25.45 EUR\"}"
+                .getBytes(StandardCharsets.UTF_8);
 
-        when(priceInputPort.getFinalPrice(date, productId, brandId)).thenReturn(mockPrice);
-        when(priceMapper.toDto(mockPrice)).thenReturn(mockResponse);
+        when(priceInputPort.resolveFinalPrice(date, productId, brandId))
+                .thenReturn(new ResolvedPrice(mockPrice, LocalDateTime.MAX));
+        when(priceResponseCache.encode(mockPrice)).thenReturn(new PriceResponseCache.EncodedPrice(mockBody, ETAG));
 
-        ResponseEntity<PriceResponse> response = priceController.getFinalPrice(date, productId, brandId);
+        ResponseEntity<byte[]> response = priceController.getFinalPrice(date, productId, brandId);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(mockResponse, response.getBody());
-        verify(priceInputPort).getFinalPrice(date, productId, brandId);
-        verify(priceMapper).toDto(mockPrice);
+        assertEquals(mockBody, response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("max-age=86400", response.getHeaders().getCacheControl());
+        assertEquals("\"" + ETAG + "\"", response.getHeaders().getETag());
+        verify(priceInputPort).resolveFinalPrice(date, productId, brandId);
+        verify(priceResponseCache).encode(mockPrice);
     }
 
     @Test
@@ -85,21 +120,53 @@ class PriceControllerUnitTest {
             "EUR"
         );
 
-        PriceResponse mockResponse = PriceResponse.builder()
-                .productId(productId)
-                .brandId(brandId)
-                .finalPrice("25.45 EUR")
-                .build();
+        byte[] mockBody = "{\"productId\":35455,\"brandId\":1,\"finalPrice\":\"25.45 EUR\"}"
+                .getBytes(StandardCharsets.UTF_8);
 
-        when(priceInputPort.getFinalPriceWithConvention(date, productId, brandId)).thenReturn(mockPrice);
-        when(priceMapper.toDto(mockPrice)).thenReturn(mockResponse);
+        when(priceInputPort.resolveFinalPriceWithConvention(date, productId, brandId))
+                .thenReturn(new ResolvedPrice(mockPrice, LocalDateTime.of(2020, 6, 14, 18, 30, 0).plusNanos(1)));
+        when(priceResponseCache.encode(mockPrice)).thenReturn(new PriceResponseCache.EncodedPrice(mockBody, ETAG));
 
-        ResponseEntity<PriceResponse> response = priceController.getFinalPriceWithConvention(date, productId, brandId);
+        ResponseEntity<byte[]> response = priceController.getFinalPriceWithConvention(date, productId, brandId);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(mockResponse, response.getBody());
-        verify(priceInputPort).getFinalPriceWithConvention(date, productId, brandId);
-        verify(priceMapper).toDto(mockPrice);
+        assertEquals(mockBody, response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("max-age=12600", response.getHeaders().getCacheControl());
+        verify(priceInputPort).resolveFinalPriceWithConvention(date, productId, brandId);
+        verify(priceResponseCache).encode(mockPrice);
+    }
+
+    @Test
+    void testGetFinalPriceNearNowCountsMaxAgeFromTheClock() {
+        LocalDateTime date = NOW.minusMinutes(2);
+        Price price = new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1, 35455L, 0, new BigDecimal("35.50"), "EUR");
+
+        when(priceInputPort.resolveFinalPrice(date, 35455L, 1))
+                .thenReturn(new ResolvedPrice(price, NOW.plusMinutes(30)));
+        when(priceResponseCache.encode(price)).thenReturn(new PriceResponseCache.EncodedPrice(new byte[0], ETAG));
+
+        ResponseEntity<byte[]> response = priceController.getFinalPrice(date, 35455L, 1);
+
+        assertEquals("max-age=1800", response.getHeaders().getCacheControl());
+        verify(priceInputPort, never()).getFinalPrice(any(), any(), any());
+    }
+
+    @Test
+    void testGetFinalPriceFarFromNowUsesTheSingleRowLookup() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 20, 10, 0, 0);
+        Price price = new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1, 35455L, 0, new BigDecimal("35.50"), "EUR");
+
+        when(priceInputPort.getFinalPriceWithConvention(date, 35455L, 1)).thenReturn(price);
+        when(priceResponseCache.encode(price)).thenReturn(new PriceResponseCache.EncodedPrice(new byte[0], ETAG));
+
+        ResponseEntity<byte[]> response = priceController.getFinalPriceWithConvention(date, 35455L, 1);
+
+        assertEquals("max-age=86400", response.getHeaders().getCacheControl());
+        assertEquals("\"" + ETAG + "\"", response.getHeaders().getETag());
+        verify(priceInputPort, never()).resolveFinalPriceWithConvention(any(), any(), any());
     }
 
     @Test
@@ -120,4 +187,60 @@ class PriceControllerUnitTest {
         verify(priceInputPort).getPricesListAll();
         verify(priceMapper).toDto(mockPrices);
     }
+
+    @Test
+    void testGetPricesPageWhenPageIsFullThenReturnNextCursor() {
+        List<Price> mockPrices = PriceFixtures.getPricesFixtures();
+        Price last = mockPrices.getLast();
+        List<PriceResponse> mockResponses = List.of(
+                PriceResponse.builder().finalPrice("19.99 EUR").build(),
+                PriceResponse.builder().finalPrice("29.99 EUR").build()
+        );
+
+        when(priceMapper.toCursor(null)).thenReturn(null);
+        when(priceInputPort.getPricesPage(null, mockPrices.size())).thenReturn(mockPrices);
+        when(priceMapper.toDto(mockPrices)).thenReturn(mockResponses);
+        when(priceMapper.toCursorToken(PriceCursor.of(last))).thenReturn("next");
+
+        ResponseEntity<List<PriceResponse>> response = priceController.getPricesPage(null, mockPrices.size());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(mockResponses, response.getBody());
+        assertEquals("next", response.getHeaders().getFirst(PriceControllerApi.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void testGetPricesPageWhenPageIsNotFullThenNoNextCursor() {
+        List<Price> mockPrices = PriceFixtures.getPricesFixtures();
+
+        when(priceInputPort.getPricesPage(null, mockPrices.size() + 1)).thenReturn(mockPrices);
+        when(priceMapper.toDto(mockPrices)).thenReturn(List.of());
+
+        ResponseEntity<List<PriceResponse>> response = priceController.getPricesPage(null, mockPrices.size() + 1);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(PriceControllerApi.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void testGetFinalPrices() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 15, 0, 0);
+        List<PriceBatchItemRequest> items = List.of(
+                PriceBatchItemRequest.builder().productId(35455L).brandId(1).date(date).build());
+        List<PriceQuery> queries = List.of(new PriceQuery(35455L, 1, date));
+        List<PriceLookup> lookups = List.of(new PriceLookup(queries.getFirst(), null));
+        List<PriceBatchItemResponse> mockResponses = List.of(
+                PriceBatchItemResponse.builder().productId(35455L).brandId(1).date(date).found(false).build());
+
+        when(priceMapper.toQueries(items)).thenReturn(queries);
+        when(priceInputPort.getFinalPrices(queries)).thenReturn(lookups);
+        when(priceMapper.toBatchDto(lookups)).thenReturn(mockResponses);
+
+        ResponseEntity<List<PriceBatchItemResponse>> response =
+                priceController.getFinalPrices(PriceBatchRequest.builder().items(items).build());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(mockResponses, response.getBody());
+        verify(priceInputPort).getFinalPrices(queries);
+    }
 }
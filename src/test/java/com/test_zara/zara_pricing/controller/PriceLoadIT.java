@@ -0,0 +1,274 @@
+package com.test_zara.zara_pricing.controller;
+
+import com.test_zara.zara_pricing.ZaraPricingApplication;
+import com.test_zara.zara_pricing.fixtures.KafkaStandIn;
+import com.test_zara.zara_pricing.fixtures.ZipfSampler;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Prueba de carga de extremo a extremo que funciona sin red: arranca la aplicación con el adaptador en memoria
+ * sobre el catálogo de loadtest/prices.sql y con {@link KafkaStandIn} en lugar del broker, y lanza peticiones a
+ * /final-price, /final-price-convention y /price-list-all.
+ * Modelo abierto: las llegadas siguen un proceso de Poisson a load.rate peticiones/s sin esperar a las respuestas,
+ * y la latencia se mide desde el instante previsto de llegada, de modo que un servidor lento no reduce la carga
+ * ni oculta la cola. Los productos se eligen con Zipf (load.zipf) y la semilla (load.seed) hace la secuencia
+ * repetible. Falla si se supera loadtest/latency-budget.properties; los histogramas quedan en target/loadtest.
+ * Ejemplo: mvn test -Dtest=PriceLoadIT -Dload.rate=1000 -Dload.duration=60s
+ */
+@Slf4j
+class PriceLoadIT {
+
+    private static final String BUDGET = "/loadtest/latency-budget.properties";
+
+    private static final Path REPORT_DIRECTORY = Path.of("target", "loadtest");
+
+    /**
+     * Deben coincidir con loadtest/prices.sql
+     */
+    private static final long FIRST_PRODUCT = 100_001L;
+
+    private static final int PRODUCTS = 1_000;
+
+    private static final String[] DATES = {
+            "2020-06-14%2010:00:00",
+            "2020-06-14%2016:00:00",
+            "2020-06-14%2021:00:00",
+            "2020-06-15%2010:00:00",
+            "2020-06-16%2021:00:00"
+    };
+
+    private static final long HIGHEST_LATENCY = TimeUnit.MINUTES.toNanos(1);
+
+    private static final double RATE = Double.parseDouble(System.getProperty("load.rate", "400"));
+
+    private static final Duration WARMUP = Duration.parse("PT" + System.getProperty("load.warmup", "5s"));
+
+    private static final Duration DURATION = Duration.parse("PT" + System.getProperty("load.duration", "15s"));
+
+    private static final double ZIPF = Double.parseDouble(System.getProperty("load.zipf", "1.1"));
+
+    private static final long SEED = Long.parseLong(System.getProperty("load.seed", "35455"));
+
+    private static final String[] PROPERTIES = {
+            "server.port=0",
+            "pricing.persistence.adapter=memory",
+            "spring.sql.init.data-locations=classpath:loadtest/prices.sql",
+            "spring.jpa.show-sql=false",
+            "logging.level.org.hibernate.SQL=INFO",
+            "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+            "logging.level.com.test_zara.zara_pricing=WARN"
+    };
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final ZipfSampler products = new ZipfSampler(PRODUCTS, ZIPF);
+
+    @Test
+    void whenOpenModelLoadRunsThenLatencyStaysWithinBudget() throws Exception {
+        KafkaStandIn kafka = new KafkaStandIn();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ZaraPricingApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(kafka))
+                .properties(PROPERTIES)
+                .run()) {
+            URI base = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/rest/prices/");
+
+            drive(base, WARMUP, SEED - 1);
+            kafka.clear();
+            Run run = drive(base, DURATION, SEED);
+
+            report(run);
+            log.info("Eventos entregados al sustituto de Kafka: {}", kafka.sentCount());
+            assertThat(run.errors()).as("peticiones fallidas").isZero();
+            assertThat(budgetViolations(run, loadBudget())).isEmpty();
+        }
+    }
+
+    /**
+     * Lanza cada petición en su instante previsto, tanto si las anteriores han respondido como si no
+     */
+    private Run drive(URI base, Duration duration, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_LATENCY, 3));
+        }
+        AtomicInteger errors = new AtomicInteger();
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        double meanInterval = TimeUnit.SECONDS.toNanos(1) / RATE;
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long intended = start;
+        while (intended < end) {
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+
+            Endpoint endpoint = Endpoint.pick(random);
+            HttpRequest request = HttpRequest.newBuilder(endpoint.uri(base, nextProduct(random), nextDate(random)))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            long arrival = intended;
+            pending.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, ex) -> {
+                        histograms.get(endpoint).recordValue(Math.min(System.nanoTime() - arrival, HIGHEST_LATENCY));
+                        if (ex != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    }));
+
+            intended += (long) (-Math.log(1.0 - random.nextDouble()) * meanInterval);
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).exceptionally(ex -> null).join();
+        long elapsed = System.nanoTime() - start;
+
+        return new Run(histograms, pending.size(), elapsed, errors.get());
+    }
+
+    private long nextProduct(SplittableRandom random) {
+        return FIRST_PRODUCT + products.sample(random);
+    }
+
+    private static String nextDate(SplittableRandom random) {
+        return DATES[random.nextInt(DATES.length)];
+    }
+
+    private void report(Run run) throws IOException {
+        Files.createDirectories(REPORT_DIRECTORY);
+        StringBuilder table = new StringBuilder(String.format(
+                "%nCarga abierta: %.0f req/s ofrecidas, %.0f req/s completadas, %d peticiones%n"
+                        + "Zipf %.2f sobre %d productos: los 10 primeros reciben el %.0f%% de las consultas%n"
+                        + "%-24s %8s %9s %9s %9s %9s %9s%n",
+                RATE, run.completedPerSecond(), run.requests(),
+                ZIPF, PRODUCTS, products.cumulativeProbability(9) * 100,
+                "endpoint", "n", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = run.histograms().get(endpoint);
+            table.append(String.format("%-24s %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.path, histogram.getTotalCount(),
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1_000_000.0));
+            try (PrintStream out = new PrintStream(REPORT_DIRECTORY.resolve(endpoint.path + ".hgrm").toFile())) {
+                histogram.outputPercentileDistribution(out, 1_000_000.0);
+            }
+        }
+        log.info(table.toString());
+    }
+
+    private static List<String> budgetViolations(Run run, Properties budget) {
+        List<String> violations = new ArrayList<>();
+        for (String key : budget.stringPropertyNames()) {
+            if (key.equals("throughput.min-ratio")) {
+                double ratio = run.completedPerSecond() / RATE;
+                if (ratio < Double.parseDouble(budget.getProperty(key))) {
+                    violations.add(String.format("%s: %.3f < %s", key, ratio, budget.getProperty(key)));
+                }
+                continue;
+            }
+            int separator = key.indexOf(".p");
+            Endpoint endpoint = Endpoint.of(key.substring(0, separator));
+            double percentile = Double.parseDouble(key.substring(separator + 2));
+            double limit = Double.parseDouble(budget.getProperty(key));
+            double measured = millis(run.histograms().get(endpoint), percentile);
+            if (measured > limit) {
+                violations.add(String.format("%s: %.2f ms > %s ms", key, measured, budget.getProperty(key)));
+            }
+        }
+        return violations;
+    }
+
+    private static Properties loadBudget() throws IOException {
+        Properties budget = new Properties();
+        try (InputStream in = PriceLoadIT.class.getResourceAsStream(BUDGET)) {
+            assertThat(in).as(BUDGET).isNotNull();
+            budget.load(in);
+        }
+        return budget;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+
+    private enum Endpoint {
+        FINAL_PRICE("final-price", 60),
+        FINAL_PRICE_CONVENTION("final-price-convention", 35),
+        PRICE_LIST_ALL("price-list-all", 5);
+
+        private final String path;
+
+        private final int weight;
+
+        Endpoint(String path, int weight) {
+            this.path = path;
+            this.weight = weight;
+        }
+
+        static Endpoint pick(SplittableRandom random) {
+            int roll = random.nextInt(100);
+            for (Endpoint endpoint : values()) {
+                roll -= endpoint.weight;
+                if (roll < 0) {
+                    return endpoint;
+                }
+            }
+            return FINAL_PRICE;
+        }
+
+        static Endpoint of(String path) {
+            for (Endpoint endpoint : values()) {
+                if (endpoint.path.equals(path)) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalArgumentException("Endpoint desconocido en el presupuesto: " + path);
+        }
+
+        URI uri(URI base, long productId, String date) {
+            if (this == PRICE_LIST_ALL) {
+                return base.resolve(path);
+            }
+            return base.resolve(path + "?date=" + date + "&productId=" + productId + "&brandId=1");
+        }
+    }
+
+    private record Run(Map<Endpoint, Histogram> histograms, int requests, long elapsedNanos, int errors) {
+
+        double completedPerSecond() {
+            return requests * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+}
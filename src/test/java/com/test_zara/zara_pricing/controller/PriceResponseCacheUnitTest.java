@@ -0,0 +1,95 @@
+package com.test_zara.zara_pricing.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.infrastructure.adapters.input.rest.PriceResponseCache;
+import com.test_zara.zara_pricing.infrastructure.dto.PriceResponse;
+import com.test_zara.zara_pricing.infrastructure.mappers.PriceMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PriceResponseCacheUnitTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private PriceMapper priceMapper;
+
+    private PriceResponseCache priceResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        priceResponseCache = new PriceResponseCache(Caffeine.newBuilder().maximumSize(100).build(), priceMapper, objectMapper);
+        when(priceMapper.toDto(any(Price.class))).thenAnswer(invocation -> toDto(invocation.getArgument(0)));
+    }
+
+    @Test
+    void whenPriceIsEncodedTwiceThenItIsSerializedOnce() throws Exception {
+        Price price = price(1, "35.50");
+
+        PriceResponseCache.EncodedPrice first = priceResponseCache.encode(price);
+        PriceResponseCache.EncodedPrice second = priceResponseCache.encode(price(1, "35.50"));
+
+        assertThat(second.body()).isSameAs(first.body());
+        assertThat(second.etag()).isSameAs(first.etag());
+        assertThat(first.body()).isEqualTo(objectMapper.writeValueAsBytes(toDto(price)));
+        assertThat(first.etag()).matches("[0-9a-f]{32}");
+        verify(priceMapper, times(1)).toDto(any(Price.class));
+    }
+
+    @Test
+    void whenPriceDataChangesThenNewBytesAreEncoded() throws Exception {
+        Price price = price(1, "35.50");
+        Price repriced = price(1, "30.50");
+        Price otherList = price(4, "35.50");
+
+        byte[] original = priceResponseCache.encode(price).body();
+        byte[] afterRepricing = priceResponseCache.encode(repriced).body();
+        byte[] afterListChange = priceResponseCache.encode(otherList).body();
+
+        assertThat(afterRepricing).isEqualTo(objectMapper.writeValueAsBytes(toDto(repriced)));
+        assertThat(afterListChange).isEqualTo(objectMapper.writeValueAsBytes(toDto(otherList)));
+        assertThat(afterRepricing).isNotEqualTo(original);
+        assertThat(priceResponseCache.encode(price).body()).isSameAs(original);
+        verify(priceMapper, times(3)).toDto(any(Price.class));
+    }
+
+    @Test
+    void whenPriceIdentityChangesThenETagChangesEvenWithTheSameAmount() {
+        String original = priceResponseCache.encode(price(1, "35.50")).etag();
+
+        assertThat(priceResponseCache.encode(price(1, "35.50")).etag()).isEqualTo(original);
+        assertThat(priceResponseCache.encode(price(4, "35.50")).etag()).isNotEqualTo(original);
+        assertThat(priceResponseCache.encode(price(1, "30.50")).etag()).isNotEqualTo(original);
+    }
+
+    private static Price price(Integer priceList, String amount) {
+        return new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                priceList, 35455L, 0, new BigDecimal(amount), "EUR");
+    }
+
+    private static PriceResponse toDto(Price price) {
+        return PriceResponse.builder()
+                .productId(price.productId())
+                .brandId(price.brandId())
+                .priceList(price.priceList())
+                .startDate(price.startDate())
+                .endDate(price.endDate())
+                .finalPrice(price.price() + " " + price.currency())
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.test_zara.zara_pricing.controller;
+
+import com.test_zara.zara_pricing.ZaraPricingApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Satura la pila servlet (con hilos de plataforma y con hilos virtuales) y la reactiva con el mismo número de
+ * peticiones concurrentes a /final-price y compara la latencia. Todas arrancan con la misma capacidad de base de
+ * datos (8 conexiones) y sin caché de lectura, sin agrupar consultas simultáneas y sin caché de respuestas, de modo
+ * que cada petición hace su propia consulta a H2 y serializa su respuesta; con hilos de plataforma Tomcat queda
+ * limitado a 16 hilos para que la concurrencia los supere.
+ * Las aplicaciones se levantan una detrás de otra porque comparten la base H2 en memoria.
+ * Arranca tres aplicaciones y envía 36.000 peticiones, así que solo se ejecuta con el perfil benchmarks.
+ */
+@Tag("benchmark")
+@Slf4j
+class PriceStackLoadIT {
+
+    private static final int CONCURRENCY = 256;
+
+    private static final int WARMUP_REQUESTS = 2_000;
+
+    private static final int REQUESTS = 10_000;
+
+    private static final String[] COMMON_PROPERTIES = {
+            "server.port=0",
+            "pricing.cache.enabled=false",
+            "pricing.coalescing.enabled=false",
+            "pricing.http.response-cache.maximum-size=0",
+            "spring.jpa.show-sql=false",
+            "logging.level.org.hibernate.SQL=INFO",
+            "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+            "logging.level.com.test_zara.zara_pricing=WARN",
+            "spring.datasource.hikari.maximum-pool-size=8",
+            "pricing.reactive.r2dbc.pool-max-size=8"
+    };
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void compareStacksLatencyUnderSaturation() throws Exception {
+        Result servlet = run(new String[]{"server.tomcat.threads.max=16"}, new String[0]);
+        Result virtual = run(new String[]{"spring.threads.virtual.enabled=true"}, new String[0]);
+        Result reactive = run(new String[0], new String[]{"reactive"});
+
+        log.info("""
+                        Pila ({} concurrentes, {} peticiones)  req/s     p50 ms   p99 ms   max ms
+                        servlet (Tomcat + JPA)                 {}    {}    {}    {}
+                        servlet, hilos virtuales               {}    {}    {}    {}
+                        reactive (Netty + R2DBC)               {}    {}    {}    {}""",
+                CONCURRENCY, REQUESTS,
+                servlet.requestsPerSecond(), servlet.p50Millis(), servlet.p99Millis(), servlet.maxMillis(),
+                virtual.requestsPerSecond(), virtual.p50Millis(), virtual.p99Millis(), virtual.maxMillis(),
+                reactive.requestsPerSecond(), reactive.p50Millis(), reactive.p99Millis(), reactive.maxMillis());
+
+        assertThat(servlet.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+        assertThat(reactive.errors()).isZero();
+    }
+
+    private Result run(String[] properties, String[] profiles) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ZaraPricingApplication.class)
+                .profiles(profiles)
+                .properties(COMMON_PROPERTIES)
+                .properties(properties)
+                .run()) {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            URI uri = URI.create("http://localhost:" + port
+                    + "/api/v1/rest/prices/final-price?date=2020-06-14%2016:00:00&productId=35455&brandId=1");
+
+            drive(uri, WARMUP_REQUESTS);
+            return drive(uri, REQUESTS);
+        }
+    }
+
+    /**
+     * Modelo cerrado: CONCURRENCY peticiones en vuelo en todo momento; la latencia se mide desde el envío
+     */
+    private Result drive(URI uri, int requests) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        List<CompletableFuture<?>> pending = new ArrayList<>(requests);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int slot = i;
+            long sent = System.nanoTime();
+            pending.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, ex) -> {
+                        latencies[slot] = System.nanoTime() - sent;
+                        if (ex != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                        inFlight.release();
+                    }));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).exceptionally(ex -> null).join();
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(
+                Math.round(requests * 1_000_000_000.0 / elapsed),
+                millis(latencies[requests / 2]),
+                millis(latencies[(int) Math.ceil(requests * 0.99) - 1]),
+                millis(latencies[requests - 1]),
+                errors.get());
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    private record Result(long requestsPerSecond, double p50Millis, double p99Millis, double maxMillis, int errors) {
+    }
+}
@@ -0,0 +1,172 @@
+package com.test_zara.zara_pricing.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * La API del perfil reactive sobre Netty y R2DBC con los mismos casos que {@link PriceControllerParameterizedIT}
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactivePriceControllerIT {
+
+    private static final String PRICES = "/api/v1/rest/prices";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @ParameterizedTest
+    @CsvSource({
+            "2020-06-14 10:00:00, 1, 35.50 EUR",
+            "2020-06-14 16:00:00, 2, 25.45 EUR",
+            "2020-06-14 21:00:00, 1, 35.50 EUR",
+            "2020-06-15 10:00:00, 3, 30.50 EUR",
+            "2020-06-16 21:00:00, 4, 38.95 EUR"
+    })
+    void whenGetFinalPriceThenReturnCorrectPrice(String date, int expectedPriceList, String expectedPrice) {
+        for (String endpoint : new String[]{"/final-price", "/final-price-convention"}) {
+            webTestClient.get()
+                    .uri(uri -> uri.path(PRICES + endpoint)
+                            .queryParam("date", date)
+                            .queryParam("productId", 35455)
+                            .queryParam("brandId", 1)
+                            .build())
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.productId").isEqualTo(35455)
+                    .jsonPath("$.brandId").isEqualTo(1)
+                    .jsonPath("$.priceList").isEqualTo(expectedPriceList)
+                    .jsonPath("$.finalPrice").isEqualTo(expectedPrice);
+        }
+    }
+
+    @Test
+    void whenPriceIsMissingThenNotFound() {
+        webTestClient.get()
+                .uri(PRICES + "/final-price?date={date}&productId=99999&brandId=1", "2020-06-14 10:00:00")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.statusCode").isEqualTo(404);
+    }
+
+    @Test
+    void whenInvalidDateThenBadRequest() {
+        webTestClient.get()
+                .uri(PRICES + "/final-price?date=invalid-date&productId=35455&brandId=1")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void whenGetFinalPricesThenReturnPerItemResults() {
+        webTestClient.post()
+                .uri(PRICES + "/final-prices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"items": [
+                          {"productId": 35455, "brandId": 1, "date": "2020-06-14 16:00:00"},
+                          {"productId": 99999, "brandId": 1, "date": "2020-06-14 16:00:00"}
+                        ]}
+                        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].price.priceList").isEqualTo(2)
+                .jsonPath("$[1].found").isEqualTo(false);
+    }
+
+    @Test
+    void whenGetFinalPricesWithEmptyBatchThenBadRequest() {
+        webTestClient.post()
+                .uri(PRICES + "/final-prices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"items\": []}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void whenPriceListIsPagedThenPagesFollowKeyOrderAndCursor() {
+        String cursor = webTestClient.get()
+                .uri(PRICES + "/price-list-all?limit=3")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("X-Next-Cursor")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].priceList").isEqualTo(1)
+                .returnResult()
+                .getResponseHeaders()
+                .getFirst("X-Next-Cursor");
+
+        webTestClient.get()
+                .uri(PRICES + "/price-list-all?limit=3&after={after}", cursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Next-Cursor")
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].priceList").isEqualTo(4);
+    }
+
+    @Test
+    void whenCursorIsInvalidThenBadRequest() {
+        webTestClient.get()
+                .uri(PRICES + "/price-list-all?limit=3&after=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void whenCursorHasNoIdThenBadRequest() {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("1|35455|2020-06-14T00:00|1|null".getBytes(StandardCharsets.UTF_8));
+
+        webTestClient.get()
+                .uri(PRICES + "/price-list-all?limit=3&after={after}", cursor)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void whenPriceListIsRequestedThenEveryPriceIsReturned() {
+        webTestClient.get()
+                .uri(PRICES + "/price-list-all")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(4);
+    }
+
+    @Test
+    void whenPriceListIsStreamedThenReturnOneJsonObjectPerLine() {
+        String body = webTestClient.get()
+                .uri(PRICES + "/price-list-all?format=ndjson")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(body).isNotNull();
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).contains("\"priceList\":1").contains("\"finalPrice\":\"35.50 EUR\"");
+    }
+}
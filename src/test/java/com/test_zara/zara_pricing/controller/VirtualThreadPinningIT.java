@@ -0,0 +1,98 @@
+package com.test_zara.zara_pricing.controller;
+
+import com.test_zara.zara_pricing.domain.ports.out.PriceEventPublisher;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.AsyncPriceEventPublisher;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Con hilos virtuales activos, las peticiones no deben quedar fijadas a su hilo portador en la publicación de
+ * eventos. JFR registra cada vez que un hilo virtual se detiene dentro de un monitor (jdk.VirtualThreadPinned);
+ * los que vienen del driver JDBC se registran en el log, pero ninguno puede pasar por Kafka ni por nuestro
+ * publicador. async.enabled=false comprueba además que la cola asíncrona se impone igualmente.
+ */
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "pricing.events.async.enabled=false"
+})
+@AutoConfigureMockMvc
+@Slf4j
+class VirtualThreadPinningIT {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int REQUESTS = 2_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PriceEventPublisher priceEventPublisher;
+
+    @Test
+    void whenVirtualThreadsAreEnabledThenEventsGoThroughTheAsyncQueue() {
+        assertThat(priceEventPublisher).isInstanceOf(AsyncPriceEventPublisher.class);
+    }
+
+    @Test
+    void whenRequestsRunOnVirtualThreadsThenPublishingNeverPinsTheCarrier() throws Exception {
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            stream.onEvent(PINNED_EVENT, pinned::add);
+            stream.startAsync();
+
+            try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> sent = new ArrayList<>(REQUESTS);
+                for (int i = 0; i < REQUESTS; i++) {
+                    String date = i % 2 == 0 ? "2020-06-14 16:00:00" : "2020-06-15 10:00:00";
+                    sent.add(requests.submit(() -> mockMvc.perform(get("/api/v1/rest/prices/final-price")
+                                    .param("date", date)
+                                    .param("productId", "35455")
+                                    .param("brandId", "1"))
+                            .andExpect(status().isOk())));
+                }
+                for (Future<?> request : sent) {
+                    request.get();
+                }
+            }
+            stream.stop();
+        }
+
+        List<String> stacks = pinned.stream().map(VirtualThreadPinningIT::stackOf).toList();
+        log.info("Hilos virtuales fijados durante {} peticiones: {}", REQUESTS, stacks.size());
+        assertThat(stacks)
+                .noneMatch(stack -> stack.contains("org.apache.kafka"))
+                .noneMatch(stack -> stack.contains("zara_pricing.infrastructure.adapters.output.kafka"));
+    }
+
+    private static String stackOf(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining("\n"));
+    }
+}
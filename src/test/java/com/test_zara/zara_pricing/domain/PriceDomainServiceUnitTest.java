@@ -78,6 +78,17 @@ class PriceDomainServiceUnitTest {
         assertEquals(singlePrice, result);
     }
 
+    @Test
+    void selectHighestPriorityPriceWithTiedKeyShouldNotDependOnInputOrder() {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+        Price shorter = new Price(1, start, start.plusDays(1), 2, 1L, 1, new BigDecimal("30.00"), "EUR");
+        Price longer = new Price(1, start, start.plusDays(2), 2, 1L, 1, new BigDecimal("20.00"), "EUR");
+        Price cheaper = new Price(1, start, start.plusDays(2), 2, 1L, 1, new BigDecimal("10.00"), "EUR");
+
+        assertEquals(longer, priceDomainService.selectHighestPriorityPrice(Arrays.asList(shorter, longer, cheaper)));
+        assertEquals(longer, priceDomainService.selectHighestPriorityPrice(Arrays.asList(cheaper, longer, shorter)));
+    }
+
     @Test
     void isValidPriceWithValidPriceShouldReturnTrue() {
         LocalDateTime now = LocalDateTime.now();
@@ -0,0 +1,65 @@
+package com.test_zara.zara_pricing.domain;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceWindowUnitTest {
+
+    private static final Price BASE = new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59), 1, 35455L, 0, new BigDecimal("35.50"), "EUR");
+    private static final Price AFTERNOON = new Price(1, LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30, 0), 2, 35455L, 1, new BigDecimal("25.45"), "EUR");
+    private static final Price MORNING = new Price(1, LocalDateTime.of(2020, 6, 15, 0, 0, 0),
+            LocalDateTime.of(2020, 6, 15, 11, 0, 0), 3, 35455L, 1, new BigDecimal("30.50"), "EUR");
+
+    private static final List<Price> PRICES = List.of(BASE, AFTERNOON, MORNING);
+
+    @Test
+    void whenDateIsBetweenBoundariesThenWindowSpansToNearestOnes() {
+        PriceWindow window = PriceWindow.of(PRICES, LocalDateTime.of(2020, 6, 14, 20, 0, 0));
+
+        assertThat(window.applicablePrices()).containsExactly(BASE);
+        assertThat(window.winner()).contains(BASE);
+        assertThat(window.validFrom()).isEqualTo(AFTERNOON.endDate().plusNanos(1));
+        assertThat(window.validUntil()).isEqualTo(MORNING.startDate());
+    }
+
+    @Test
+    void whenDateMovesInsideWindowThenSameWindowApplies() {
+        PriceWindow window = PriceWindow.of(PRICES, LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+
+        assertThat(window.contains(LocalDateTime.of(2020, 6, 14, 15, 0, 0))).isTrue();
+        assertThat(window.contains(AFTERNOON.endDate())).isTrue();
+        assertThat(window.contains(AFTERNOON.endDate().plusNanos(1))).isFalse();
+        assertThat(window.contains(LocalDateTime.of(2020, 6, 14, 14, 59, 59))).isFalse();
+        assertThat(window.winner()).contains(AFTERNOON);
+    }
+
+    @Test
+    void whenNoPriceAppliesThenWindowIsEmptyButBounded() {
+        PriceWindow before = PriceWindow.of(PRICES, LocalDateTime.of(2020, 1, 1, 0, 0, 0));
+        PriceWindow after = PriceWindow.of(PRICES, LocalDateTime.of(2021, 1, 1, 0, 0, 0));
+
+        assertThat(before.winner()).isEmpty();
+        assertThat(before.validFrom()).isEqualTo(LocalDateTime.MIN);
+        assertThat(before.validUntil()).isEqualTo(BASE.startDate());
+        assertThat(after.applicablePrices()).isEmpty();
+        assertThat(after.validFrom()).isEqualTo(BASE.endDate().plusNanos(1));
+        assertThat(after.validUntil()).isEqualTo(LocalDateTime.MAX);
+    }
+
+    @Test
+    void whenProductHasNoPricesThenWindowIsUnbounded() {
+        PriceWindow window = PriceWindow.of(List.of(), LocalDateTime.of(2020, 6, 14, 10, 0, 0));
+
+        assertThat(window.applicablePrices()).isEmpty();
+        assertThat(window.contains(LocalDateTime.of(1999, 1, 1, 0, 0, 0))).isTrue();
+    }
+}
@@ -0,0 +1,107 @@
+package com.test_zara.zara_pricing.fixtures;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.record.RecordBatch;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sustituye cada ProducerFactory de la aplicación por un MockProducer que confirma al momento: la cadena de
+ * publicación (cola asíncrona, circuito, reenvío del spool) funciona igual pero sin broker ni red.
+ * Los envíos solo se cuentan: no se guardan en history(), que en una prueba de carga retendría cada registro.
+ * Se registra antes de refrescar el contexto, por ejemplo con
+ * {@code builder.initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(standIn))}.
+ */
+public class KafkaStandIn implements BeanPostProcessor {
+
+    private final SharedMockProducer producer = new SharedMockProducer();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ProducerFactory<?, ?>) {
+            return new StandInProducerFactory(producer);
+        }
+        return bean;
+    }
+
+    /**
+     * Registros enviados desde el último {@link #clear()}
+     */
+    public long sentCount() {
+        return producer.sentCount();
+    }
+
+    public void clear() {
+        producer.clear();
+    }
+
+    private record StandInProducerFactory(SharedMockProducer producer) implements ProducerFactory<Object, Object> {
+
+        @Override
+        public Producer<Object, Object> createProducer() {
+            return producer;
+        }
+
+        @Override
+        public Map<String, Object> getConfigurationProperties() {
+            return Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "stand-in:0");
+        }
+    }
+
+    /**
+     * KafkaTemplate cierra el productor tras cada envío, igual que con los productores compartidos de
+     * DefaultKafkaProducerFactory; aquí también se ignora el cierre
+     */
+    private static final class SharedMockProducer extends MockProducer<Object, Object> {
+
+        private final LongAdder sent = new LongAdder();
+
+        SharedMockProducer() {
+            super(true, (topic, key) -> new byte[0], (topic, value) -> new byte[0]);
+        }
+
+        /**
+         * Confirma el envío en el acto sin pasar por MockProducer.send, que guarda el registro en history()
+         */
+        @Override
+        public Future<RecordMetadata> send(ProducerRecord<Object, Object> record, Callback callback) {
+            sent.increment();
+            RecordMetadata metadata = new RecordMetadata(
+                    new TopicPartition(record.topic(), 0), 0L, 0, RecordBatch.NO_TIMESTAMP, 0, 0);
+            if (callback != null) {
+                callback.onCompletion(metadata, null);
+            }
+            return CompletableFuture.completedFuture(metadata);
+        }
+
+        long sentCount() {
+            return sent.sum();
+        }
+
+        @Override
+        public void clear() {
+            super.clear();
+            sent.reset();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void close(Duration timeout) {
+        }
+    }
+}
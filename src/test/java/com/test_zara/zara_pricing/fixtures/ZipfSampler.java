@@ -0,0 +1,41 @@
+package com.test_zara.zara_pricing.fixtures;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Muestrea rangos 0..n-1 con distribución de Zipf: el rango k sale con probabilidad proporcional a 1/(k+1)^s.
+ * Con s = 0 todos son igual de probables; con s cerca de 1 unos pocos rangos concentran casi toda la carga.
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int n, double exponent) {
+        if (n <= 0 || exponent < 0) {
+            throw new IllegalArgumentException("n debe ser positivo y el exponente no negativo");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    public int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+    /**
+     * Probabilidad acumulada de los rangos 0..k
+     */
+    public double cumulativeProbability(int k) {
+        return cumulative[k];
+    }
+}
@@ -0,0 +1,206 @@
+package com.test_zara.zara_pricing.publisher;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.ports.out.PriceEventPublisher;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.AsyncPriceEventPublisher;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.AsyncPriceEventPublisher.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncPriceEventPublisherUnitTest {
+
+    private final RecordingPublisher delegate = new RecordingPublisher();
+
+    private AsyncPriceEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() {
+        delegate.release();
+        if (publisher != null) {
+            publisher.close();
+        }
+    }
+
+    @Test
+    void whenPricesArePublishedThenDrainerForwardsThemInBatches() throws Exception {
+        publisher = publisher(100, 10, OverflowPolicy.DROP);
+        delegate.block();
+        publisher.publishPriceRetrieved(price(0));
+        delegate.awaitFirstBatch();
+
+        for (int i = 1; i <= 25; i++) {
+            publisher.publishPriceRetrieved(price(i));
+        }
+        delegate.release();
+        publisher.close();
+
+        assertThat(delegate.published()).hasSize(26);
+        assertThat(delegate.batchSizes).allMatch(size -> size <= 10);
+        assertThat(delegate.batchSizes.size()).isLessThan(26);
+        assertThat(publisher.publishedCount()).isEqualTo(26);
+        assertThat(publisher.droppedCount()).isZero();
+    }
+
+    @Test
+    void whenQueueIsFullWithDropPolicyThenEventsAreDroppedWithoutWaiting() throws Exception {
+        publisher = publisher(5, 1, OverflowPolicy.DROP);
+        delegate.block();
+        publisher.publishPriceRetrieved(price(0));
+        delegate.awaitFirstBatch();
+
+        long start = System.nanoTime();
+        publisher.publishPricesRetrieved(prices(1, 20));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(100));
+        assertThat(publisher.queueDepth()).isEqualTo(5);
+        assertThat(publisher.droppedCount()).isEqualTo(14);
+    }
+
+    @Test
+    void whenQueueIsOverHalfWithSamplePolicyThenOnlySomeEventsAreKept() throws Exception {
+        publisher = publisher(100, 1, OverflowPolicy.SAMPLE);
+        delegate.block();
+        publisher.publishPriceRetrieved(price(0));
+        delegate.awaitFirstBatch();
+
+        publisher.publishPricesRetrieved(prices(1, 150));
+
+        assertThat(publisher.queueDepth()).isEqualTo(50 + 10);
+        assertThat(publisher.droppedCount()).isEqualTo(89);
+    }
+
+    @Test
+    void whenQueueIsFullWithBlockPolicyThenEventWaitsForRoom() throws Exception {
+        publisher = publisher(1, 1, OverflowPolicy.BLOCK);
+        delegate.block();
+        publisher.publishPriceRetrieved(price(0));
+        delegate.awaitFirstBatch();
+        publisher.publishPriceRetrieved(price(1));
+
+        Thread.ofVirtual().start(() -> {
+            sleep(50);
+            delegate.release();
+        });
+        publisher.publishPriceRetrieved(price(2));
+
+        assertThat(publisher.droppedCount()).isZero();
+        publisher.close();
+        assertThat(delegate.published()).hasSize(3);
+    }
+
+    @Test
+    void whenClosedThenPendingEventsAreFlushedAndNewOnesDropped() {
+        publisher = publisher(100, 50, OverflowPolicy.DROP);
+        publisher.publishPricesRetrieved(prices(0, 30));
+
+        publisher.close();
+        publisher.publishPriceRetrieved(price(99));
+
+        assertThat(delegate.published()).hasSize(30);
+        assertThat(publisher.droppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void whenDelegateFailsThenDrainerKeepsRunning() {
+        publisher = publisher(100, 1, OverflowPolicy.DROP);
+        delegate.failNext();
+        publisher.publishPriceRetrieved(price(0));
+        publisher.publishPriceRetrieved(price(1));
+
+        publisher.close();
+
+        assertThat(publisher.failedCount()).isEqualTo(1);
+        assertThat(delegate.published()).containsExactly(price(1));
+    }
+
+    private AsyncPriceEventPublisher publisher(int capacity, int batchSize, OverflowPolicy policy) {
+        AsyncPriceEventPublisher created = new AsyncPriceEventPublisher(
+                delegate, capacity, batchSize, policy, 10, Duration.ofSeconds(2), Duration.ofSeconds(5));
+        created.start();
+        return created;
+    }
+
+    private static List<Price> prices(int from, int to) {
+        return java.util.stream.IntStream.range(from, to).mapToObj(AsyncPriceEventPublisherUnitTest::price).toList();
+    }
+
+    private static Price price(int priceList) {
+        return new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                priceList, 35455L, 0, new BigDecimal("35.50"), "EUR");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Publicador de prueba que registra los lotes y puede retener el hilo de vaciado
+     */
+    private static class RecordingPublisher implements PriceEventPublisher {
+
+        private final List<Price> published = new CopyOnWriteArrayList<>();
+
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch firstBatch = new CountDownLatch(1);
+
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        private volatile boolean failNext;
+
+        @Override
+        public void publishPriceRetrieved(Price price) {
+            publishPricesRetrieved(List.of(price));
+        }
+
+        @Override
+        public void publishPricesRetrieved(List<Price> prices) {
+            firstBatch.countDown();
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("broker caído");
+            }
+            batchSizes.add(prices.size());
+            published.addAll(prices);
+        }
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        void failNext() {
+            failNext = true;
+        }
+
+        void awaitFirstBatch() throws InterruptedException {
+            assertThat(firstBatch.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        List<Price> published() {
+            return published;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.test_zara.zara_pricing.publisher;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.KafkaPriceEventPublisher;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.PublisherCircuitBreaker;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.PublisherCircuitBreaker.State;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.spool.PricingEventSpool;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.spool.SpoolReplayer;
+import com.test_zara.zara_pricing.infrastructure.avro.PricingEvent;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaPriceEventPublisherUnitTest {
+
+    private static final String TOPIC = "pricing-events";
+
+    private static final Duration MAX_BLOCK = Duration.ofSeconds(1);
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+
+    @Mock
+    private KafkaTemplate<String, PricingEvent> kafkaTemplate;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final StandInBroker broker = new StandInBroker();
+
+    private PublisherCircuitBreaker circuitBreaker;
+
+    private KafkaPriceEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new PublisherCircuitBreaker(3, OPEN_DURATION, Duration.ofMillis(200), clock::get);
+        publisher = publisher(PricingEventSpool.disabled());
+        when(kafkaTemplate.send(anyString(), anyString(), any(PricingEvent.class)))
+                .thenAnswer(invocation -> broker.send(invocation.getArgument(1), invocation.getArgument(2)));
+    }
+
+    @Test
+    void whenBrokerIsKilledThenPublishesShortCircuitWithoutTouchingTheProducer() {
+        publisher.publishPriceRetrieved(price());
+        assertThat(broker.sends()).isEqualTo(1);
+
+        broker.kill();
+        for (int i = 0; i < 3; i++) {
+            publisher.publishPriceRetrieved(price());
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+        int sendsWhileOpening = broker.sends();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 10_000; i++) {
+            publisher.publishPriceRetrieved(price());
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(broker.sends()).isEqualTo(sendsWhileOpening);
+        assertThat(circuitBreaker.rejectedCount()).isEqualTo(10_000);
+        assertThat(elapsed).isLessThan(Duration.ofMillis(500));
+    }
+
+    @Test
+    void whenBrokerIsRestartedThenCircuitRecoversAfterOpenDuration() {
+        broker.kill();
+        for (int i = 0; i < 3; i++) {
+            publisher.publishPriceRetrieved(price());
+        }
+        broker.restart();
+
+        publisher.publishPriceRetrieved(price());
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        publisher.publishPriceRetrieved(price());
+
+        assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+        int sends = broker.sends();
+        publisher.publishPricesRetrieved(List.of(price(), price()));
+        assertThat(broker.sends()).isEqualTo(sends + 2);
+    }
+
+    @Test
+    void whenBrokerIsStillDownAtProbeThenCircuitReopens() {
+        broker.kill();
+        for (int i = 0; i < 3; i++) {
+            publisher.publishPriceRetrieved(price());
+        }
+
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        publisher.publishPricesRetrieved(List.of(price(), price()));
+
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void whenSchemaRegistryIsDownThenSerializationFailuresOpenTheCircuit() {
+        broker.registryDown();
+        for (int i = 0; i < 3; i++) {
+            publisher.publishPriceRetrieved(price());
+        }
+
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+        assertThat(broker.sends()).isEqualTo(3);
+    }
+
+    @Test
+    void whenSendFailsAsynchronouslyThenFailureIsCountedOnCompletion() {
+        broker.failAcks();
+        for (int i = 0; i < 3; i++) {
+            publisher.publishPriceRetrieved(price());
+        }
+
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void whenBrokerIsDownThenEventsAreSpooledAndReplayedInOrderAfterRestart(@TempDir Path directory) throws IOException {
+        try (PricingEventSpool spool = PricingEventSpool.open(directory, 4096, 64 * 1024)) {
+            publisher = publisher(spool);
+            SpoolReplayer replayer = new SpoolReplayer(spool, kafkaTemplate, circuitBreaker, TOPIC, 20, 20, Duration.ofSeconds(1));
+
+            broker.kill();
+            for (long productId = 1; productId <= 5; productId++) {
+                publisher.publishPriceRetrieved(price(productId));
+            }
+            assertThat(spool.pendingCount()).isEqualTo(5);
+            assertThat(replayer.replayOnce()).isZero();
+
+            broker.restart();
+            publisher.publishPriceRetrieved(price(6L));
+            assertThat(broker.deliveredKeys()).isEmpty();
+
+            clock.addAndGet(OPEN_DURATION.toNanos());
+            assertThat(replayer.replayOnce()).isEqualTo(2);
+            assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+            while (replayer.replayOnce() > 0) {
+                // a razón de replayRate / 10 eventos por lote
+            }
+
+            assertThat(broker.deliveredKeys()).containsExactly("1-1", "2-1", "3-1", "4-1", "5-1", "6-1");
+            assertThat(spool.hasPending()).isFalse();
+
+            publisher.publishPriceRetrieved(price(7L));
+            assertThat(broker.deliveredKeys()).endsWith("7-1");
+        }
+    }
+
+    @Test
+    void whenBacklogRemainsThenReplayBatchGrowsUpToMaxRateAndResetsOnceDrained(@TempDir Path directory) throws IOException {
+        try (PricingEventSpool spool = PricingEventSpool.open(directory, 4096, 64 * 1024)) {
+            publisher = publisher(spool);
+            SpoolReplayer replayer = new SpoolReplayer(spool, kafkaTemplate, circuitBreaker, TOPIC, 20, 80, Duration.ofSeconds(1));
+            broker.failAcks();
+            publisher.publishPriceRetrieved(price(1L));
+            broker.restart();
+            for (long productId = 2; productId <= 20; productId++) {
+                publisher.publishPriceRetrieved(price(productId));
+            }
+            assertThat(spool.pendingCount()).isEqualTo(20);
+
+            assertThat(replayer.replayOnce()).isEqualTo(2);
+            assertThat(replayer.replayOnce()).isEqualTo(4);
+            assertThat(replayer.replayOnce()).isEqualTo(8);
+            assertThat(replayer.replayOnce()).isEqualTo(6);
+
+            assertThat(spool.hasPending()).isFalse();
+            assertThat(replayer.batchSize()).isEqualTo(2);
+            assertThat(broker.deliveredKeys()).hasSize(20).startsWith("1-1", "2-1").endsWith("20-1");
+        }
+    }
+
+    @Test
+    void whenReplayFailsThenBatchSizeFallsBackToInitialRate(@TempDir Path directory) throws IOException {
+        try (PricingEventSpool spool = PricingEventSpool.open(directory, 4096, 64 * 1024)) {
+            publisher = publisher(spool);
+            SpoolReplayer replayer = new SpoolReplayer(spool, kafkaTemplate, circuitBreaker, TOPIC, 20, 80, Duration.ofSeconds(1));
+            broker.failAcks();
+            for (long productId = 1; productId <= 10; productId++) {
+                publisher.publishPriceRetrieved(price(productId));
+            }
+            broker.restart();
+            replayer.replayOnce();
+            assertThat(replayer.batchSize()).isEqualTo(4);
+
+            broker.failAcks();
+            assertThat(replayer.replayOnce()).isZero();
+            assertThat(replayer.batchSize()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void whenReplayFailsThenSpoolPositionIsKept(@TempDir Path directory) throws IOException {
+        try (PricingEventSpool spool = PricingEventSpool.open(directory, 4096, 64 * 1024)) {
+            publisher = publisher(spool);
+            SpoolReplayer replayer = new SpoolReplayer(spool, kafkaTemplate, circuitBreaker, TOPIC, 20, 20, Duration.ofSeconds(1));
+            broker.failAcks();
+            publisher.publishPriceRetrieved(price(1L));
+            publisher.publishPriceRetrieved(price(2L));
+
+            assertThat(replayer.replayOnce()).isZero();
+            assertThat(spool.pendingCount()).isEqualTo(2);
+
+            broker.restart();
+            assertThat(replayer.replayOnce()).isEqualTo(2);
+            assertThat(broker.deliveredKeys()).containsExactly("1-1", "2-1");
+        }
+    }
+
+    private KafkaPriceEventPublisher publisher(PricingEventSpool spool) {
+        KafkaPriceEventPublisher created = new KafkaPriceEventPublisher(kafkaTemplate, circuitBreaker, spool);
+        ReflectionTestUtils.setField(created, "pricingEventsTopic", TOPIC);
+        return created;
+    }
+
+    private static Price price() {
+        return price(35455L);
+    }
+
+    private static Price price(Long productId) {
+        return new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1, productId, 0, new BigDecimal("35.50"), "EUR");
+    }
+
+    /**
+     * Broker de sustitución: arrancado confirma cada envío y anota su clave; parado, send se queda max.block.ms esperando metadatos
+     * (avanzando el reloj del cortocircuito) y devuelve un futuro fallido, como hace KafkaProducer
+     */
+    private class StandInBroker {
+
+        private final AtomicInteger sends = new AtomicInteger();
+
+        private final AtomicLong offset = new AtomicLong();
+
+        private final List<String> deliveredKeys = new CopyOnWriteArrayList<>();
+
+        private volatile boolean up = true;
+
+        private volatile boolean registryUp = true;
+
+        private volatile boolean acksFail;
+
+        CompletableFuture<SendResult<String, PricingEvent>> send(String key, PricingEvent event) {
+            sends.incrementAndGet();
+            if (!registryUp) {
+                throw new SerializationException("Error registering Avro schema: schema registry no disponible");
+            }
+            if (!up) {
+                clock.addAndGet(MAX_BLOCK.toNanos());
+                return CompletableFuture.failedFuture(new TimeoutException(
+                        "Topic " + TOPIC + " not present in metadata after " + MAX_BLOCK.toMillis() + " ms."));
+            }
+            if (acksFail) {
+                return CompletableFuture.failedFuture(new TimeoutException("Expiring record for " + TOPIC + "-0"));
+            }
+            deliveredKeys.add(key);
+            RecordMetadata metadata = new RecordMetadata(new TopicPartition(TOPIC, 0), offset.getAndIncrement(), 0, 0L, 0, 0);
+            return CompletableFuture.completedFuture(new SendResult<>(new ProducerRecord<>(TOPIC, key, event), metadata));
+        }
+
+        void kill() {
+            up = false;
+        }
+
+        void restart() {
+            up = true;
+            acksFail = false;
+        }
+
+        void registryDown() {
+            registryUp = false;
+        }
+
+        void failAcks() {
+            acksFail = true;
+        }
+
+        int sends() {
+            return sends.get();
+        }
+
+        List<String> deliveredKeys() {
+            return deliveredKeys;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.test_zara.zara_pricing.publisher;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.PriceReadAggregator;
+import com.test_zara.zara_pricing.infrastructure.avro.PriceReadSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceReadAggregatorUnitTest {
+
+    private static final Duration FLUSH_INTERVAL = Duration.ofHours(1);
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final List<PriceReadSummary> published = new CopyOnWriteArrayList<>();
+
+    private final AtomicBoolean sinkDown = new AtomicBoolean();
+
+    private PriceReadAggregator aggregator;
+
+    @AfterEach
+    void tearDown() {
+        if (aggregator != null) {
+            aggregator.close();
+        }
+    }
+
+    @Test
+    void whenProductIsReadRepeatedlyThenOneSummaryIsPublishedPerKey() {
+        aggregator = aggregator(100, Clock.fixed(Instant.ofEpochMilli(1_000), ZoneOffset.UTC));
+
+        aggregator.publishPriceRetrieved(price(35455L, "35.50"));
+        aggregator.publishPriceRetrieved(price(35455L, "25.45"));
+        aggregator.publishPricesRetrieved(List.of(price(35455L, "38.95"), price(12345L, "10.00")));
+        aggregator.flush().join();
+
+        assertThat(published).hasSize(2);
+        PriceReadSummary summary = summaryOf(35455L);
+        assertThat(summary.getBrandId()).isEqualTo(1);
+        assertThat(summary.getReadCount()).isEqualTo(3L);
+        assertThat(summary.getMinPrice()).isEqualTo(25.45);
+        assertThat(summary.getMaxPrice()).isEqualTo(38.95);
+        assertThat(summary.getCurrency()).isEqualTo("EUR");
+        assertThat(summary.getWindowStart()).isEqualTo(1_000L);
+        assertThat(summary.getWindowEnd()).isEqualTo(1_000L);
+        assertThat(summaryOf(12345L).getReadCount()).isEqualTo(1L);
+        assertThat(aggregator.pendingKeys()).isZero();
+    }
+
+    @Test
+    void whenReadsRaceWithFlushesThenEveryReadIsCountedExactlyOnce() throws InterruptedException {
+        aggregator = aggregator(1_000, Clock.systemUTC());
+        int threads = 8;
+        int readsPerThread = 20_000;
+        ExecutorService readers = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            readers.execute(() -> {
+                for (int i = 0; i < readsPerThread; i++) {
+                    aggregator.publishPriceRetrieved(price((long) (i % 50), "35.50"));
+                }
+                done.countDown();
+            });
+        }
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            aggregator.flush();
+        }
+        readers.shutdown();
+        aggregator.flush().join();
+
+        long total = published.stream().mapToLong(PriceReadSummary::getReadCount).sum();
+        assertThat(total).isEqualTo((long) threads * readsPerThread);
+        assertThat(aggregator.flushedReadCount()).isEqualTo(total);
+        assertThat(aggregator.recordedCount()).isEqualTo(total);
+    }
+
+    @Test
+    void whenSinkFailsThenReadsAreKeptForTheNextFlush() {
+        aggregator = aggregator(100, Clock.systemUTC());
+        aggregator.publishPriceRetrieved(price(35455L, "35.50"));
+        aggregator.publishPriceRetrieved(price(35455L, "35.50"));
+
+        sinkDown.set(true);
+        assertThat(aggregator.flush()).isCompletedExceptionally();
+        assertThat(aggregator.pendingReads()).isEqualTo(2L);
+        assertThat(aggregator.failedFlushCount()).isEqualTo(1L);
+
+        aggregator.publishPriceRetrieved(price(35455L, "35.50"));
+        sinkDown.set(false);
+        aggregator.flush().join();
+
+        assertThat(published).hasSize(1);
+        assertThat(summaryOf(35455L).getReadCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void whenMaxKeysIsReachedThenFlushIsBroughtForward() throws InterruptedException {
+        aggregator = aggregator(10, Clock.systemUTC());
+        aggregator.start();
+
+        for (long productId = 0; productId < 10; productId++) {
+            aggregator.publishPriceRetrieved(price(productId, "35.50"));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (published.size() < 10 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(published).hasSize(10);
+    }
+
+    @Test
+    void whenClosedThenPendingReadsAreFlushed() {
+        aggregator = aggregator(100, Clock.systemUTC());
+        aggregator.start();
+        aggregator.publishPriceRetrieved(price(35455L, "35.50"));
+
+        aggregator.close();
+
+        assertThat(published).hasSize(1);
+        assertThat(aggregator.pendingKeys()).isZero();
+    }
+
+    private PriceReadAggregator aggregator(int maxKeys, Clock clock) {
+        return new PriceReadAggregator(this::send, FLUSH_INTERVAL, maxKeys, SHUTDOWN_TIMEOUT, clock);
+    }
+
+    private CompletableFuture<?> send(PriceReadSummary summary) {
+        if (sinkDown.get()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("broker caído"));
+        }
+        published.add(summary);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private PriceReadSummary summaryOf(Long productId) {
+        Map<String, PriceReadSummary> byProduct = new ConcurrentHashMap<>();
+        published.forEach(summary -> byProduct.put(summary.getProductId(), summary));
+        return byProduct.get(productId.toString());
+    }
+
+    private static Price price(Long productId, String amount) {
+        return new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1, productId, 0, new BigDecimal(amount), "EUR");
+    }
+}
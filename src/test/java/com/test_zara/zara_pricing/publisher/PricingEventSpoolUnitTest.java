@@ -0,0 +1,164 @@
+package com.test_zara.zara_pricing.publisher;
+
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.spool.PricingEventSpool;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.spool.SpoolBatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PricingEventSpoolUnitTest {
+
+    private static final int SEGMENT_SIZE = 40;
+
+    @TempDir
+    Path directory;
+
+    private PricingEventSpool spool;
+
+    @AfterEach
+    void tearDown() {
+        if (spool != null) {
+            spool.close();
+        }
+    }
+
+    @Test
+    void whenRecordsAreAppendedThenTheyAreReadInOrderUntilCommitted() throws IOException {
+        spool = PricingEventSpool.open(directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+        for (int i = 0; i < 5; i++) {
+            assertThat(spool.append(record(i))).isTrue();
+        }
+
+        SpoolBatch first = spool.read(3);
+        assertThat(texts(first)).containsExactly("event-00", "event-01", "event-02");
+        assertThat(texts(spool.read(3))).containsExactly("event-00", "event-01", "event-02");
+
+        spool.commit(first);
+
+        assertThat(spool.pendingCount()).isEqualTo(2);
+        assertThat(texts(spool.read(10))).containsExactly("event-03", "event-04");
+    }
+
+    @Test
+    void whenSegmentIsFullThenSpoolRotatesAndDeletesConsumedSegments() throws IOException {
+        spool = PricingEventSpool.open(directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+        for (int i = 0; i < 7; i++) {
+            spool.append(record(i));
+        }
+        assertThat(spool.segmentCount()).isEqualTo(4);
+
+        spool.commit(spool.read(5));
+
+        assertThat(spool.segmentCount()).isEqualTo(2);
+        assertThat(segmentFiles()).hasSize(2);
+        assertThat(texts(spool.read(10))).containsExactly("event-05", "event-06");
+    }
+
+    @Test
+    void whenMaxSizeIsReachedThenNewRecordsAreDropped() throws IOException {
+        spool = PricingEventSpool.open(directory, SEGMENT_SIZE, 2 * SEGMENT_SIZE);
+        for (int i = 0; i < 6; i++) {
+            spool.append(record(i));
+        }
+
+        assertThat(spool.pendingCount()).isEqualTo(4);
+        assertThat(spool.droppedCount()).isEqualTo(2);
+        assertThat(spool.sizeBytes()).isEqualTo(2 * SEGMENT_SIZE);
+        assertThat(spool.append(new byte[SEGMENT_SIZE])).isFalse();
+    }
+
+    @Test
+    void whenReopenedThenReplayResumesFromCommittedPosition() throws IOException {
+        spool = PricingEventSpool.open(directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+        for (int i = 0; i < 5; i++) {
+            spool.append(record(i));
+        }
+        spool.commit(spool.read(3));
+        spool.read(2);
+        spool.close();
+
+        spool = PricingEventSpool.open(directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+
+        assertThat(spool.pendingCount()).isEqualTo(2);
+        assertThat(texts(spool.read(10))).containsExactly("event-03", "event-04");
+        spool.append(record(5));
+        assertThat(texts(spool.read(10))).containsExactly("event-03", "event-04", "event-05");
+    }
+
+    @Test
+    void whenTailRecordIsCorruptThenRecoveryStopsAtLastCompleteRecord() throws IOException {
+        spool = PricingEventSpool.open(directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+        spool.append(record(0));
+        spool.close();
+        try (FileChannel channel = FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(12).putInt(4).putInt(0xBAD).put(new byte[4]).flip(), 16);
+        }
+
+        spool = PricingEventSpool.open(directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+        spool.append(record(1));
+
+        assertThat(spool.pendingCount()).isEqualTo(2);
+        assertThat(spool.corruptedCount()).isEqualTo(1);
+        assertThat(texts(spool.read(10))).containsExactly("event-00", "event-01");
+    }
+
+    @Test
+    void whenRecordInTheMiddleOfASegmentIsCorruptThenTheRestOfTheSegmentIsCounted() throws IOException {
+        spool = PricingEventSpool.open(directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+        for (int i = 0; i < 4; i++) {
+            spool.append(record(i));
+        }
+        spool.close();
+        try (FileChannel channel = FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap("X".getBytes(StandardCharsets.UTF_8)), 8);
+        }
+
+        spool = PricingEventSpool.open(directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+
+        assertThat(spool.corruptedCount()).isEqualTo(2);
+        assertThat(spool.pendingCount()).isEqualTo(2);
+        assertThat(texts(spool.read(10))).containsExactly("event-02", "event-03");
+    }
+
+    @Test
+    void whenDirectoryIsAlreadyInUseThenOpenFails() throws IOException {
+        spool = PricingEventSpool.open(directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE);
+
+        assertThrows(IOException.class, () -> PricingEventSpool.open(directory, SEGMENT_SIZE, 10 * SEGMENT_SIZE));
+    }
+
+    @Test
+    void whenSpoolIsDisabledThenRecordsAreDropped() {
+        PricingEventSpool disabled = PricingEventSpool.disabled();
+
+        assertThat(disabled.append(record(0))).isFalse();
+        assertThat(disabled.hasPending()).isFalse();
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+
+    private static byte[] record(int index) {
+        return String.format("event-%02d", index).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> texts(SpoolBatch batch) {
+        return batch.records().stream().map(record -> new String(record, StandardCharsets.UTF_8)).toList();
+    }
+}
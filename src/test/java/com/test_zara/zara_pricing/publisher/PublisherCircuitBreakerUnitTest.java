@@ -0,0 +1,91 @@
+package com.test_zara.zara_pricing.publisher;
+
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.PublisherCircuitBreaker;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.kafka.PublisherCircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublisherCircuitBreakerUnitTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final PublisherCircuitBreaker circuitBreaker =
+            new PublisherCircuitBreaker(3, Duration.ofSeconds(10), Duration.ofMillis(200), clock::get);
+
+    @Test
+    void whenFailuresReachThresholdThenCircuitOpensAndRejects() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(circuitBreaker.rejectedCount()).isEqualTo(1);
+        assertThat(circuitBreaker.openedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void whenSuccessArrivesBetweenFailuresThenCountRestarts() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void whenOpenDurationElapsesThenOnlyOneProbeIsLetThrough() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.state()).isEqualTo(State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void whenProbeFailsThenCircuitReopensForAnotherPeriod() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void whenCallTakesLongerThanThresholdThenItIsSlow() {
+        long startedAt = circuitBreaker.startCall();
+        clock.addAndGet(Duration.ofMillis(200).toNanos());
+        assertThat(circuitBreaker.isSlowCall(startedAt)).isFalse();
+
+        clock.addAndGet(1);
+        assertThat(circuitBreaker.isSlowCall(startedAt)).isTrue();
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure();
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+    }
+}
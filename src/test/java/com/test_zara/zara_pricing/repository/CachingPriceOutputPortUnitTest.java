@@ -0,0 +1,221 @@
+package com.test_zara.zara_pricing.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.ports.out.PriceOutputPort;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.cache.CachingPriceOutputPort;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.cache.CachingPriceOutputPort.PriceCacheKey;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.cache.KnownPriceKeys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingPriceOutputPortUnitTest {
+
+    private static final Price BASE = new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59), 1, 35455L, 0, new BigDecimal("35.50"), "EUR");
+    private static final Price AFTERNOON = new Price(1, LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30, 0), 2, 35455L, 1, new BigDecimal("25.45"), "EUR");
+
+    private static final List<Price> PRICES = List.of(BASE, AFTERNOON);
+
+    @Mock
+    private PriceOutputPort delegate;
+
+    private CachingPriceOutputPort cachingPort;
+
+    @BeforeEach
+    void setUp() {
+        cachingPort = new CachingPriceOutputPort(delegate, cache(100));
+    }
+
+    @Test
+    void whenDateStaysInsideWindowThenDelegateIsQueriedOnce() {
+        LocalDateTime first = LocalDateTime.of(2020, 6, 14, 15, 30, 0);
+        when(delegate.findPriceWindow(1, 35455L, first)).thenReturn(PriceWindow.of(PRICES, first));
+
+        assertThat(cachingPort.findFinalPrice(1, 35455L, first)).contains(AFTERNOON);
+        assertThat(cachingPort.findFinalPrice(1, 35455L, first.plusMinutes(30))).contains(AFTERNOON);
+        assertThat(cachingPort.findFinalPriceWithConvention(1, 35455L, AFTERNOON.endDate()))
+                .containsExactlyInAnyOrder(BASE, AFTERNOON);
+
+        verify(delegate, times(1)).findPriceWindow(anyInt(), anyLong(), any());
+        assertThat(cachingPort.hitCount()).isEqualTo(2);
+        assertThat(cachingPort.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void whenDateCrossesBoundaryThenNextWindowIsLoaded() {
+        when(delegate.findPriceWindow(anyInt(), anyLong(), any()))
+                .thenAnswer(invocation -> PriceWindow.of(PRICES, invocation.getArgument(2)));
+        LocalDateTime lastSecond = AFTERNOON.endDate();
+
+        assertThat(cachingPort.findFinalPrice(1, 35455L, lastSecond)).contains(AFTERNOON);
+        assertThat(cachingPort.findFinalPrice(1, 35455L, lastSecond.plusSeconds(1))).contains(BASE);
+        assertThat(cachingPort.findFinalPrice(1, 35455L, lastSecond.plusHours(2))).contains(BASE);
+
+        verify(delegate, times(2)).findPriceWindow(anyInt(), anyLong(), any());
+        assertThat(cachingPort.hitCount()).isEqualTo(1);
+        assertThat(cachingPort.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void whenDatesAlternateForSameProductThenBothWindowsStayCached() {
+        when(delegate.findPriceWindow(anyInt(), anyLong(), any()))
+                .thenAnswer(invocation -> PriceWindow.of(PRICES, invocation.getArgument(2)));
+        LocalDateTime afternoon = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+        LocalDateTime evening = LocalDateTime.of(2020, 6, 14, 21, 0, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(cachingPort.findFinalPrice(1, 35455L, afternoon)).contains(AFTERNOON);
+            assertThat(cachingPort.findFinalPrice(1, 35455L, evening)).contains(BASE);
+        }
+
+        verify(delegate, times(2)).findPriceWindow(anyInt(), anyLong(), any());
+        assertThat(cachingPort.hitCount()).isEqualTo(8);
+        assertThat(cachingPort.estimatedSize()).isEqualTo(1);
+    }
+
+    @Test
+    void whenMoreWindowsThanLimitThenOldestIsDropped() {
+        Cache<PriceCacheKey, List<PriceWindow>> cache = cache(100);
+        cachingPort = new CachingPriceOutputPort(delegate, cache, KnownPriceKeys.all(), 2);
+        when(delegate.findPriceWindow(anyInt(), anyLong(), any()))
+                .thenAnswer(invocation -> PriceWindow.of(PRICES, invocation.getArgument(2)));
+        LocalDateTime morning = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+        LocalDateTime afternoon = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+        LocalDateTime evening = LocalDateTime.of(2020, 6, 14, 21, 0, 0);
+
+        cachingPort.findFinalPrice(1, 35455L, morning);
+        cachingPort.findFinalPrice(1, 35455L, afternoon);
+        cachingPort.findFinalPrice(1, 35455L, evening);
+        cachingPort.findFinalPrice(1, 35455L, morning);
+
+        assertThat(cache.getIfPresent(new PriceCacheKey(1, 35455L)))
+                .extracting(window -> window.contains(morning), window -> window.contains(evening))
+                .containsExactly(tuple(true, false), tuple(false, true));
+        verify(delegate, times(4)).findPriceWindow(anyInt(), anyLong(), any());
+    }
+
+    @Test
+    void whenWindowIsReadThenCaffeinePolicySeesTheAccess() {
+        Cache<PriceCacheKey, List<PriceWindow>> cache = cache(100);
+        cachingPort = new CachingPriceOutputPort(delegate, cache);
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+        when(delegate.findPriceWindow(1, 35455L, date)).thenReturn(PriceWindow.of(PRICES, date));
+
+        cachingPort.findFinalPrice(1, 35455L, date);
+        cachingPort.findFinalPrice(1, 35455L, date);
+        cachingPort.findFinalPrice(1, 35455L, date.plusHours(5));
+
+        assertThat(cache.stats().hitCount()).isEqualTo(2);
+        assertThat(cachingPort.hitCount()).isEqualTo(1);
+        assertThat(cachingPort.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void whenNoPriceAppliesThenEmptyWindowIsCached() {
+        LocalDateTime date = LocalDateTime.of(2019, 1, 1, 10, 0, 0);
+        when(delegate.findPriceWindow(1, 35455L, date)).thenReturn(PriceWindow.of(PRICES, date));
+
+        assertThat(cachingPort.findFinalPrice(1, 35455L, date)).isEmpty();
+        assertThat(cachingPort.findFinalPriceWithConvention(1, 35455L, date.plusDays(1))).isEmpty();
+
+        verify(delegate, times(1)).findPriceWindow(anyInt(), anyLong(), any());
+    }
+
+    @Test
+    void whenProductIsUnknownThenDelegateIsNotQueried() {
+        cachingPort = new CachingPriceOutputPort(delegate, cache(100), KnownPriceKeys.of(PRICES));
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+
+        assertThat(cachingPort.findFinalPrice(1, 99999L, date)).isEmpty();
+        assertThat(cachingPort.findFinalPriceWithConvention(2, 35455L, date)).isEmpty();
+
+        verify(delegate, never()).findPriceWindow(anyInt(), anyLong(), any());
+        assertThat(cachingPort.unknownKeyCount()).isEqualTo(2);
+        assertThat(cachingPort.estimatedSize()).isZero();
+    }
+
+    @Test
+    void whenProductIsKnownThenFilterLetsLookupThrough() {
+        cachingPort = new CachingPriceOutputPort(delegate, cache(100), KnownPriceKeys.of(PRICES));
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+        when(delegate.findPriceWindow(1, 35455L, date)).thenReturn(PriceWindow.of(PRICES, date));
+
+        assertThat(cachingPort.findFinalPrice(1, 35455L, date)).contains(BASE);
+        assertThat(cachingPort.unknownKeyCount()).isZero();
+    }
+
+    @Test
+    void whenBatchIsPartiallyCachedThenOnlyMissesAreLoadedTogether() {
+        cachingPort = new CachingPriceOutputPort(delegate, cache(100), KnownPriceKeys.of(PRICES));
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+        PriceQuery cached = new PriceQuery(35455L, 1, date);
+        PriceQuery unknown = new PriceQuery(99999L, 1, date);
+        PriceQuery expired = new PriceQuery(35455L, 1, date.plusHours(5));
+        when(delegate.findPriceWindow(1, 35455L, date)).thenReturn(PriceWindow.of(PRICES, date));
+        when(delegate.findPriceWindows(List.of(expired))).thenReturn(List.of(PriceWindow.of(PRICES, expired.date())));
+        cachingPort.findFinalPrice(1, 35455L, date);
+
+        List<PriceWindow> windows = cachingPort.findPriceWindows(List.of(cached, unknown, expired));
+
+        assertThat(windows).hasSize(3);
+        assertThat(windows.get(0).winner()).contains(AFTERNOON);
+        assertThat(windows.get(1).applicablePrices()).isEmpty();
+        assertThat(windows.get(2).winner()).contains(BASE);
+        verify(delegate, times(1)).findPriceWindows(List.of(expired));
+    }
+
+    @Test
+    void whenCacheIsFullThenEntriesAreEvicted() {
+        cachingPort = new CachingPriceOutputPort(delegate, cache(1));
+        when(delegate.findPriceWindow(anyInt(), anyLong(), any()))
+                .thenAnswer(invocation -> PriceWindow.of(List.of(), invocation.getArgument(2)));
+
+        for (long productId = 1; productId <= 10; productId++) {
+            cachingPort.findFinalPrice(1, productId, LocalDateTime.of(2020, 6, 14, 10, 0, 0));
+        }
+
+        assertThat(cachingPort.evictionCount()).isGreaterThan(0);
+        assertThat(cachingPort.estimatedSize()).isEqualTo(1);
+    }
+
+    @Test
+    void whenFindAllThenDelegateIsAlwaysQueried() {
+        when(delegate.findAll()).thenReturn(PRICES);
+
+        cachingPort.findAll();
+        cachingPort.findAll();
+
+        verify(delegate, times(2)).findAll();
+    }
+
+    private static Cache<PriceCacheKey, List<PriceWindow>> cache(long maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.test_zara.zara_pricing.repository;
+
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory.EpochTimeCodec;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EpochTimeCodecUnitTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+
+    @Test
+    void whenDateIsEncodedThenItRoundTripsAtSecondResolution() {
+        EpochTimeCodec codec = EpochTimeCodec.of(ZoneId.of("UTC"));
+
+        long epochSecond = codec.toEpochSecond(DATE.plusNanos(999_999_999));
+
+        assertThat(epochSecond).isEqualTo(1_592_128_800L);
+        assertThat(codec.toLocalDateTime(epochSecond)).isEqualTo(DATE);
+    }
+
+    @Test
+    void whenZoneHasFixedOffsetThenEpochSecondsAreShifted() {
+        EpochTimeCodec codec = EpochTimeCodec.of(ZoneOffset.ofHours(2));
+
+        assertThat(codec.toEpochSecond(DATE)).isEqualTo(EpochTimeCodec.UTC.toEpochSecond(DATE) - 7_200);
+        assertThat(codec.toLocalDateTime(codec.toEpochSecond(DATE))).isEqualTo(DATE);
+    }
+
+    @Test
+    void whenZoneHasDaylightSavingThenItIsRejected() {
+        assertThatThrownBy(() -> EpochTimeCodec.of(ZoneId.of("Europe/Madrid")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
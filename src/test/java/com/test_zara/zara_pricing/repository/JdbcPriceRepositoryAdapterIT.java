@@ -0,0 +1,187 @@
+package com.test_zara.zara_pricing.repository;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.ports.out.PriceOutputPort;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.jdbc.JdbcPriceRepositoryAdapter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contrasta el adaptador JDBC con el de JPA sobre el mismo H2: cada operación del puerto debe devolver lo mismo.
+ * El último test mide el rendimiento de ambos con varios hilos y deja el informe en el log.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@Slf4j
+class JdbcPriceRepositoryAdapterIT {
+
+    private static final int THREADS = 4;
+
+    private static final int WARMUP = 2_000;
+
+    private static final int ITERATIONS_PER_THREAD = 5_000;
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    @Autowired
+    @Qualifier("persistence")
+    private PriceOutputPort jpaAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    private JdbcPriceRepositoryAdapter jdbcAdapter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcAdapter = new JdbcPriceRepositoryAdapter(jdbcTemplate, jdbcClient);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2020-06-14T10:00:00",
+            "2020-06-14T16:00:00",
+            "2020-06-14T21:00:00",
+            "2020-06-15T10:00:00",
+            "2020-06-16T21:00:00",
+            "2019-01-01T00:00:00"
+    })
+    void whenQueryingByDateThenJdbcMatchesJpa(String isoDate) {
+        LocalDateTime date = LocalDateTime.parse(isoDate);
+
+        assertThat(jdbcAdapter.findFinalPrice(1, 35455L, date)).isEqualTo(jpaAdapter.findFinalPrice(1, 35455L, date));
+        assertThat(jdbcAdapter.findFinalPriceWithConvention(1, 35455L, date))
+                .containsExactlyInAnyOrderElementsOf(jpaAdapter.findFinalPriceWithConvention(1, 35455L, date));
+        assertSameWindow(jdbcAdapter.findPriceWindow(1, 35455L, date), jpaAdapter.findPriceWindow(1, 35455L, date));
+    }
+
+    @Test
+    void whenQueryingFinalPriceThenHighestPriorityWins() {
+        assertThat(jdbcAdapter.findFinalPrice(1, 35455L, DATE))
+                .map(Price::priceList)
+                .contains(2);
+        assertThat(jdbcAdapter.findFinalPrice(1, 99999L, DATE)).isEmpty();
+    }
+
+    @Test
+    void whenQueryingWindowsInBatchThenJdbcMatchesJpa() {
+        List<PriceQuery> queries = List.of(
+                new PriceQuery(35455L, 1, DATE),
+                new PriceQuery(12345L, 1, DATE),
+                new PriceQuery(35455L, 1, DATE.plusDays(1)));
+
+        List<PriceWindow> jdbcWindows = jdbcAdapter.findPriceWindows(queries);
+        List<PriceWindow> jpaWindows = jpaAdapter.findPriceWindows(queries);
+        assertThat(jdbcWindows).hasSameSizeAs(jpaWindows);
+        for (int i = 0; i < jpaWindows.size(); i++) {
+            assertSameWindow(jdbcWindows.get(i), jpaWindows.get(i));
+        }
+        assertThat(jdbcAdapter.findPriceWindows(List.of())).isEmpty();
+    }
+
+    @Test
+    void whenReadingEveryPriceThenJdbcMatchesJpa() {
+        assertThat(jdbcAdapter.findAll()).containsExactlyInAnyOrderElementsOf(jpaAdapter.findAll());
+
+        List<Price> streamed = new ArrayList<>();
+        jdbcAdapter.streamAll(streamed::add);
+        List<Price> expected = new ArrayList<>();
+        jpaAdapter.streamAll(expected::add);
+        assertThat(streamed).isEqualTo(expected).hasSize(4);
+    }
+
+    @Test
+    void whenWalkingPagesThenJdbcMatchesJpa() {
+        List<Price> walked = new ArrayList<>();
+        PriceCursor after = null;
+        List<Price> page;
+        do {
+            page = jdbcAdapter.findPage(after, 3);
+            assertThat(page).isEqualTo(jpaAdapter.findPage(after, 3));
+            walked.addAll(page);
+            after = page.isEmpty() ? after : PriceCursor.of(page.getLast());
+        } while (page.size() == 3);
+
+        assertThat(walked).isSortedAccordingTo(PriceCursor.KEY_ORDER).hasSize(4);
+    }
+
+    @Test
+    void benchmarkJpaAgainstJdbc() throws Exception {
+        double jpaFinal = throughput(() -> jpaAdapter.findFinalPrice(1, 35455L, DATE));
+        double jdbcFinal = throughput(() -> jdbcAdapter.findFinalPrice(1, 35455L, DATE));
+        double jpaWindow = throughput(() -> jpaAdapter.findPriceWindow(1, 35455L, DATE));
+        double jdbcWindow = throughput(() -> jdbcAdapter.findPriceWindow(1, 35455L, DATE));
+
+        log.info("""
+                        Consulta ({} hilos)       ops/s
+                        precio final, JPA         {}
+                        precio final, JDBC        {}
+                        ventana, JPA              {}
+                        ventana, JDBC             {}""",
+                THREADS, Math.round(jpaFinal), Math.round(jdbcFinal), Math.round(jpaWindow), Math.round(jdbcWindow));
+
+        assertThat(jpaFinal).isPositive();
+        assertThat(jdbcFinal).isPositive();
+    }
+
+    /**
+     * Ninguna de las dos consultas fija el orden de las tarifas vigentes, solo cuáles son
+     */
+    private static void assertSameWindow(PriceWindow actual, PriceWindow expected) {
+        assertThat(actual.applicablePrices()).containsExactlyInAnyOrderElementsOf(expected.applicablePrices());
+        assertThat(actual.validFrom()).isEqualTo(expected.validFrom());
+        assertThat(actual.validUntil()).isEqualTo(expected.validUntil());
+    }
+
+    private static double throughput(Runnable query) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            query.run();
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(pool.submit(() -> {
+                    for (int i = 0; i < ITERATIONS_PER_THREAD; i++) {
+                        query.run();
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            long elapsed = System.nanoTime() - start;
+            return (double) THREADS * ITERATIONS_PER_THREAD * 1_000_000_000L / elapsed;
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
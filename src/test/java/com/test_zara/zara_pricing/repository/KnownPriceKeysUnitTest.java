@@ -0,0 +1,76 @@
+package com.test_zara.zara_pricing.repository;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.ports.out.PriceOutputPort;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.cache.KnownPriceKeys;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class KnownPriceKeysUnitTest {
+
+    @Test
+    void whenPairHasPricesThenItIsKnown() {
+        KnownPriceKeys keys = KnownPriceKeys.of(List.of(price(1, 35455L), price(1, 35455L), price(2, 12345L)));
+
+        assertThat(keys.size()).isEqualTo(2);
+        assertThat(keys.mightContain(1, 35455L)).isTrue();
+        assertThat(keys.mightContain(2, 12345L)).isTrue();
+        assertThat(keys.mightContain(2, 35455L)).isFalse();
+        assertThat(keys.mightContain(1, 12345L)).isFalse();
+    }
+
+    @Test
+    void whenKeyCannotBePackedThenItIsRejectedWithoutError() {
+        KnownPriceKeys keys = KnownPriceKeys.of(List.of(price(1, 35455L)));
+
+        assertThat(keys.mightContain(1, -1L)).isFalse();
+        assertThat(keys.mightContain(1, Long.MAX_VALUE)).isFalse();
+        assertThat(keys.mightContain(null, 35455L)).isFalse();
+    }
+
+    @Test
+    void whenLoadedKeyCannotBePackedThenFilterLetsEverythingThrough() {
+        KnownPriceKeys keys = KnownPriceKeys.of(List.of(price(1, 35455L), price(1, Long.MAX_VALUE)));
+
+        assertThat(keys.isFiltering()).isFalse();
+        assertThat(keys.mightContain(7, 1L)).isTrue();
+    }
+
+    @Test
+    void whenBuiltFromSourceThenRowsAreStreamedInsteadOfLoaded() {
+        PriceOutputPort source = mock(PriceOutputPort.class);
+        doAnswer(invocation -> {
+            Consumer<Price> action = invocation.getArgument(0);
+            for (long productId = 1; productId <= 3000; productId++) {
+                action.accept(price(1, productId));
+                action.accept(price(1, productId));
+            }
+            action.accept(price(2, 1L));
+            return null;
+        }).when(source).streamAll(any());
+
+        KnownPriceKeys keys = KnownPriceKeys.from(source);
+
+        verify(source, never()).findAll();
+        assertThat(keys.size()).isEqualTo(3001);
+        assertThat(keys.mightContain(1, 3000L)).isTrue();
+        assertThat(keys.mightContain(2, 1L)).isTrue();
+        assertThat(keys.mightContain(2, 2L)).isFalse();
+    }
+
+    private static Price price(int brandId, long productId) {
+        return new Price(brandId, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1, productId, 0, new BigDecimal("35.50"), "EUR");
+    }
+}
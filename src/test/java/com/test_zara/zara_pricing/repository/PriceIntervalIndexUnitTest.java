@@ -0,0 +1,190 @@
+package com.test_zara.zara_pricing.repository;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory.PriceIntervalIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceIntervalIndexUnitTest {
+
+    private static final Price BASE = new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59), 1, 35455L, 0, new BigDecimal("35.50"), "EUR");
+    private static final Price AFTERNOON = new Price(1, LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30, 0), 2, 35455L, 1, new BigDecimal("25.45"), "EUR");
+    private static final Price MORNING = new Price(1, LocalDateTime.of(2020, 6, 15, 0, 0, 0),
+            LocalDateTime.of(2020, 6, 15, 11, 0, 0), 3, 35455L, 1, new BigDecimal("30.50"), "EUR");
+    private static final Price LATE = new Price(1, LocalDateTime.of(2020, 6, 15, 16, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59), 4, 35455L, 1, new BigDecimal("38.95"), "EUR");
+
+    private PriceIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = PriceIntervalIndex.of(List.of(LATE, BASE, MORNING, AFTERNOON));
+    }
+
+    @Test
+    void whenDateIsCoveredByOverlappingPricesThenReturnHighestPriority() {
+        Optional<Price> result = index.findFinalPrice(1, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0, 0));
+
+        assertThat(result).contains(AFTERNOON);
+    }
+
+    @Test
+    void whenDateIsOnIntervalBoundsThenPriceIsApplicable() {
+        assertThat(index.findFinalPrice(1, 35455L, AFTERNOON.startDate())).contains(AFTERNOON);
+        assertThat(index.findFinalPrice(1, 35455L, AFTERNOON.endDate())).contains(AFTERNOON);
+        assertThat(index.findFinalPrice(1, 35455L, AFTERNOON.endDate().plusSeconds(1))).contains(BASE);
+    }
+
+    @Test
+    void whenFindApplicablePricesThenReturnEveryCoveringInterval() {
+        List<Price> result = index.findApplicablePrices(1, 35455L, LocalDateTime.of(2020, 6, 15, 10, 0, 0));
+
+        assertThat(result).containsExactlyInAnyOrder(BASE, MORNING);
+    }
+
+    @Test
+    void whenDateIsOutsideEveryIntervalThenReturnEmpty() {
+        LocalDateTime before = LocalDateTime.of(2020, 6, 13, 23, 59, 59);
+
+        assertThat(index.findFinalPrice(1, 35455L, before)).isEmpty();
+        assertThat(index.findApplicablePrices(1, 35455L, before)).isEmpty();
+    }
+
+    @Test
+    void whenFindPriceWindowThenReturnIntervalUntilNextBoundary() {
+        PriceWindow window = index.findPriceWindow(1, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0, 0));
+
+        assertThat(window.applicablePrices()).containsExactlyInAnyOrder(BASE, AFTERNOON);
+        assertThat(window.winner()).contains(AFTERNOON);
+        assertThat(window.validFrom()).isEqualTo(AFTERNOON.startDate());
+        assertThat(window.validUntil()).isEqualTo(AFTERNOON.endDate().plusNanos(1));
+    }
+
+    @Test
+    void whenRandomPricesThenWindowFromTimelineMatchesDomainWindow() {
+        Random random = new Random(35455L);
+        LocalDateTime origin = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+
+        for (int round = 0; round < 200; round++) {
+            List<Price> rows = new ArrayList<>();
+            int size = 1 + random.nextInt(12);
+            for (int i = 0; i < size; i++) {
+                LocalDateTime start = origin.plusMinutes(random.nextInt(100));
+                rows.add(new Price(1, start, start.plusMinutes(random.nextInt(40)).plusSeconds(random.nextInt(60)),
+                        i + 1, 35455L, random.nextInt(3), new BigDecimal("10.00"), "EUR"));
+            }
+            index = PriceIntervalIndex.of(rows);
+
+            for (int second = -120; second < 160 * 60; second += 7) {
+                LocalDateTime date = origin.plusSeconds(second);
+                PriceWindow expected = PriceWindow.of(rows, date);
+
+                PriceWindow window = index.findPriceWindow(1, 35455L, date);
+
+                assertThat(window.applicablePrices()).containsExactlyInAnyOrderElementsOf(expected.applicablePrices());
+                assertThat(window.validFrom()).isEqualTo(expected.validFrom());
+                assertThat(window.validUntil()).isEqualTo(expected.validUntil());
+                assertThat(window.winner()).isEqualTo(index.findFinalPrice(1, 35455L, date));
+            }
+        }
+    }
+
+    @Test
+    void whenProductOrBrandIsUnknownThenReturnEmpty() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+        assertThat(index.findFinalPrice(2, 35455L, date)).isEmpty();
+        assertThat(index.findFinalPrice(1, 12345L, date)).isEmpty();
+    }
+
+    @Test
+    void whenPriceIsReturnedTwiceThenSameInstanceIsReused() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+        Price first = index.findFinalPrice(1, 35455L, date).orElseThrow();
+        Price second = index.findFinalPrice(1, 35455L, date).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.price()).isEqualByComparingTo("25.45");
+        assertThat(first.price().scale()).isEqualTo(2);
+    }
+
+    @Test
+    void whenFindAllThenReturnEveryLoadedPrice() {
+        assertThat(index.findAll()).containsExactlyInAnyOrder(LATE, BASE, MORNING, AFTERNOON);
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.keyCount()).isEqualTo(1);
+    }
+
+    @Test
+    void whenPagesAreWalkedWithCursorThenEveryPriceIsReturnedOnceInKeyOrder() {
+        Price otherProduct = new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59), 1, 10L, 0, new BigDecimal("10.00"), "EUR");
+        Price otherBrand = new Price(2, LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59), 1, 1L, 0, new BigDecimal("12.00"), "EUR");
+        index = PriceIntervalIndex.of(List.of(LATE, otherBrand, BASE, MORNING, otherProduct, AFTERNOON));
+
+        List<Price> first = index.findPage(null, 4);
+        List<Price> second = index.findPage(PriceCursor.of(first.get(3)), 4);
+
+        assertThat(first).containsExactly(otherProduct, BASE, AFTERNOON, MORNING);
+        assertThat(second).containsExactly(LATE, otherBrand);
+        assertThat(index.findPage(PriceCursor.of(otherBrand), 4)).isEmpty();
+    }
+
+    @Test
+    void whenRowsShareTheWholeKeyThenIdKeepsPagesFromSkippingThem() {
+        List<Price> twins = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            twins.add(new Price(1, BASE.startDate(), BASE.endDate(), 1, 35455L, (int) id, BASE.price(), "EUR", 4 - id));
+        }
+        index = PriceIntervalIndex.of(twins);
+
+        List<Price> walked = new ArrayList<>();
+        PriceCursor after = null;
+        List<Price> page;
+        do {
+            page = index.findPage(after, 1);
+            walked.addAll(page);
+            after = page.isEmpty() ? after : PriceCursor.of(page.getLast());
+        } while (!page.isEmpty());
+
+        assertThat(walked).extracting(Price::id).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void whenPagesAndWalksAreRepeatedThenRowsAreFreshCopiesNotRetainedByTheIndex() {
+        List<Price> firstPage = index.findPage(null, 4);
+        List<Price> secondPage = index.findPage(null, 4);
+        List<Price> walked = new ArrayList<>();
+        index.forEach(walked::add);
+
+        assertThat(secondPage).isEqualTo(firstPage);
+        for (int i = 0; i < firstPage.size(); i++) {
+            assertThat(secondPage.get(i)).isNotSameAs(firstPage.get(i));
+            assertThat(walked.get(i)).isEqualTo(firstPage.get(i)).isNotSameAs(firstPage.get(i));
+        }
+    }
+
+    @Test
+    void whenForEachThenPricesAreVisitedInKeyOrder() {
+        List<Price> visited = new ArrayList<>();
+
+        index.forEach(visited::add);
+
+        assertThat(visited).containsExactly(BASE, AFTERNOON, MORNING, LATE);
+    }
+}
@@ -0,0 +1,87 @@
+package com.test_zara.zara_pricing.repository;
+
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory.PriceKeyMap;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PriceKeyMapUnitTest {
+
+    @Test
+    void whenPutThenGetByPackedKeyAndByBoxedIds() {
+        PriceKeyMap<String> map = new PriceKeyMap<>();
+
+        map.put(PriceKeyMap.pack(1, 35455L), "zara");
+
+        assertThat(map.get(PriceKeyMap.pack(1, 35455L))).isEqualTo("zara");
+        assertThat(map.get(1, 35455L)).isEqualTo("zara");
+        assertThat(map.get(2, 35455L)).isNull();
+        assertThat(map.get(1, 35456L)).isNull();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void whenPutExistingKeyThenReplaceValue() {
+        PriceKeyMap<String> map = new PriceKeyMap<>();
+        long key = PriceKeyMap.pack(1, 35455L);
+
+        map.put(key, "old");
+        String previous = map.put(key, "new");
+
+        assertThat(previous).isEqualTo("old");
+        assertThat(map.get(key)).isEqualTo("new");
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void whenManyKeysThenMapGrowsAndKeepsEveryEntry() {
+        PriceKeyMap<Long> map = new PriceKeyMap<>(4);
+
+        for (long productId = 0; productId < 50_000; productId++) {
+            map.put(PriceKeyMap.pack((int) (productId % 7), productId), productId);
+        }
+
+        assertThat(map.size()).isEqualTo(50_000);
+        assertThat(map.capacity()).isGreaterThanOrEqualTo(50_000);
+        for (long productId = 0; productId < 50_000; productId++) {
+            assertThat(map.get((int) (productId % 7), productId)).isEqualTo(productId);
+        }
+    }
+
+    @Test
+    void whenIdsCannotBePackedThenLookupMissesAndPackFails() {
+        PriceKeyMap<String> map = new PriceKeyMap<>();
+
+        assertThat(map.get(null, 35455L)).isNull();
+        assertThat(map.get(1, -1L)).isNull();
+        assertThat(map.get(1, 1L << 32)).isNull();
+        assertThrows(IllegalArgumentException.class, () -> PriceKeyMap.pack(1, 1L << 32));
+        assertThrows(IllegalArgumentException.class, () -> map.put(PriceKeyMap.pack(1, 1L), null));
+    }
+
+    @Test
+    void whenNegativeBrandThenKeyDoesNotCollideWithProduct() {
+        PriceKeyMap<String> map = new PriceKeyMap<>();
+
+        map.put(PriceKeyMap.pack(-1, 0xFFFF_FFFFL), "negative");
+        map.put(PriceKeyMap.pack(0, 0xFFFF_FFFFL), "zero");
+
+        assertThat(map.get(-1, 0xFFFF_FFFFL)).isEqualTo("negative");
+        assertThat(map.get(0, 0xFFFF_FFFFL)).isEqualTo("zero");
+    }
+
+    @Test
+    void whenMemoryReportThenFootprintPerEntryIsBelowHashMap() {
+        PriceKeyMap<String> map = new PriceKeyMap<>(100_000);
+        for (long productId = 0; productId < 100_000; productId++) {
+            map.put(PriceKeyMap.pack(1, productId), "value");
+        }
+
+        PriceKeyMap.MemoryReport report = map.memoryReport();
+
+        assertThat(report.entries()).isEqualTo(100_000);
+        assertThat(report.bytesPerEntry()).isLessThan(report.hashMapBytesPerEntry());
+        assertThat(report.toString()).contains("B/entrada");
+    }
+}
@@ -0,0 +1,138 @@
+package com.test_zara.zara_pricing.repository;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.jpa.repository.DataPriceRepository;
+import com.test_zara.zara_pricing.infrastructure.mappers.PriceMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara el camino anterior (entidad gestionada + PriceMapper.toDomain) con las proyecciones que construyen
+ * {@link Price} directamente: bytes asignados y latencia media por consulta, medidos en el hilo del test con
+ * el mismo H2 y sin registro de SQL. El informe queda en el log; lo que se comprueba es que ambos caminos
+ * devuelven lo mismo y que la proyección no deja nada en el contexto de persistencia.
+ * Son unas 28.000 consultas, así que solo se lanza con el perfil benchmarks.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@Slf4j
+class PriceProjectionBenchmarkIT {
+
+    private static final int WARMUP = 2_000;
+
+    private static final int ITERATIONS = 5_000;
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    @Autowired
+    private DataPriceRepository dataPriceRepository;
+
+    @Autowired
+    private PriceMapper priceMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void whenProjectionIsUsedThenResultsMatchTheEntityPath() {
+        assertThat(dataPriceRepository.findFinalPrice(1, 35455L, DATE))
+                .isEqualTo(dataPriceRepository.findFinalPriceWithJpql(1, 35455L, DATE).map(priceMapper::toDomain));
+        assertThat(dataPriceRepository.findPrices(1, 35455L))
+                .containsExactlyInAnyOrderElementsOf(dataPriceRepository.findByBrandIdAndProductId(1, 35455L)
+                        .stream()
+                        .map(priceMapper::toDomain)
+                        .toList());
+    }
+
+    @Test
+    void whenProjectionIsUsedThenNothingIsRetainedInPersistenceContext() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        long projected = readOnly.execute(status -> {
+            dataPriceRepository.findPrices(1, 35455L);
+            return managedEntities();
+        });
+        long loaded = readOnly.execute(status -> {
+            dataPriceRepository.findByBrandIdAndProductId(1, 35455L);
+            return managedEntities();
+        });
+
+        assertThat(projected).isZero();
+        assertThat(loaded).isEqualTo(4);
+    }
+
+    @Test
+    void benchmarkEntityMappingAgainstProjection() {
+        Result entityFinal = measure(() -> dataPriceRepository.findFinalPriceWithJpql(1, 35455L, DATE).map(priceMapper::toDomain));
+        Result projectionFinal = measure(() -> dataPriceRepository.findFinalPrice(1, 35455L, DATE));
+        Result entityWindow = measure(() -> dataPriceRepository.findByBrandIdAndProductId(1, 35455L)
+                .stream()
+                .map(priceMapper::toDomain)
+                .toList());
+        Result projectionWindow = measure(() -> dataPriceRepository.findPrices(1, 35455L));
+
+        log.info("""
+                        Consulta                  bytes/op    us/op
+                        precio final, entidad     {}    {}
+                        precio final, proyección  {}    {}
+                        ventana, entidad          {}    {}
+                        ventana, proyección       {}    {}""",
+                entityFinal.bytesPerOp(), entityFinal.microsPerOp(),
+                projectionFinal.bytesPerOp(), projectionFinal.microsPerOp(),
+                entityWindow.bytesPerOp(), entityWindow.microsPerOp(),
+                projectionWindow.bytesPerOp(), projectionWindow.microsPerOp());
+
+        assertThat(projectionFinal.bytesPerOp()).isPositive();
+        assertThat(entityFinal.bytesPerOp()).isPositive();
+    }
+
+    private long managedEntities() {
+        return entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+    }
+
+    private static Result measure(Supplier<?> query) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().threadId();
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = query.get();
+        }
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = query.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+
+        assertThat(sink).isInstanceOfAny(Optional.class, List.class);
+        return new Result(allocated / ITERATIONS, elapsed / 1_000.0 / ITERATIONS);
+    }
+
+    private record Result(long bytesPerOp, double microsPerOp) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.test_zara.zara_pricing.repository;
+
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.jpa.repository.DataPriceRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Captura el SQL que genera Hibernate para las consultas del repositorio y comprueba con EXPLAIN de H2 que
+ * se resuelven con el índice compuesto de schema.sql; si el índice desaparece o la consulta deja de poder
+ * usarlo, el plan vuelve a un recorrido completo de la tabla y el test falla.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.test_zara.zara_pricing.repository.PriceQueryPlanIT$RecordingStatementInspector")
+class PriceQueryPlanIT {
+
+    private static final String PRICES_INDEX = "IDX_PRICES_BRAND_PRODUCT_DATES";
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    @Autowired
+    private DataPriceRepository dataPriceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void whenFindFinalPriceThenPlanUsesCompositeIndex() {
+        dataPriceRepository.findFinalPrice(1, 35455L, DATE);
+
+        String plan = explain(lastPricesQuery(), 1, 35455L, DATE);
+
+        assertUsesCompositeIndex(plan);
+    }
+
+    @Test
+    void whenFindApplicablePricesThenPlanUsesCompositeIndex() {
+        dataPriceRepository.findApplicablePrices(1, 35455L, DATE);
+
+        String plan = explain(lastPricesQuery(), 1, 35455L, DATE, DATE);
+
+        assertUsesCompositeIndex(plan);
+    }
+
+    @Test
+    void whenFindPricesThenPlanUsesCompositeIndex() {
+        dataPriceRepository.findPrices(1, 35455L);
+
+        String plan = explain(lastPricesQuery(), 1, 35455L);
+
+        assertUsesCompositeIndex(plan);
+    }
+
+    private static void assertUsesCompositeIndex(String plan) {
+        assertThat(plan)
+                .containsIgnoringCase(PRICES_INDEX)
+                .containsIgnoringCase("BRAND_ID =")
+                .containsIgnoringCase("PRODUCT_ID =")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    /**
+     * EXPLAIN necesita los parámetros enlazados; van en el orden de la consulta y, si Hibernate pasa el LIMIT
+     * como parámetro, el último es ese 1
+     */
+    private String explain(String sql, Object... parameters) {
+        long placeholders = sql.chars().filter(c -> c == '?').count();
+        List<Object> values = new ArrayList<>(List.of(parameters));
+        while (values.size() < placeholders) {
+            values.add(1);
+        }
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, values.toArray());
+    }
+
+    private static String lastPricesQuery() {
+        List<String> statements = RecordingStatementInspector.STATEMENTS;
+        for (int i = statements.size() - 1; i >= 0; i--) {
+            if (statements.get(i).toLowerCase().contains("from prices")) {
+                return statements.get(i);
+            }
+        }
+        throw new AssertionError("Hibernate no ha ejecutado ninguna consulta sobre prices");
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
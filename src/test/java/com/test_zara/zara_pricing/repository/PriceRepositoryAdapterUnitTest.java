@@ -2,26 +2,30 @@ package com.test_zara.zara_pricing.repository;
 
 
 import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
 import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.jpa.PriceRepositoryAdapter;
-import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.jpa.entity.PriceEntity;
 import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.jpa.repository.DataPriceRepository;
-import com.test_zara.zara_pricing.infrastructure.mappers.PriceMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,72 +35,143 @@ class PriceRepositoryAdapterUnitTest {
     @Mock
     private DataPriceRepository dataPriceRepository;
 
-    @Spy
-    private PriceMapper priceMapper;
-
     private PriceRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new PriceRepositoryAdapter(dataPriceRepository, priceMapper);
+        adapter = new PriceRepositoryAdapter(dataPriceRepository);
     }
 
     @Test
-    void testFindFinalPriceReturnsMappedPrice() {
+    void testFindFinalPriceReturnsProjectedPrice() {
         Integer brandId = 1;
         Long productId = 2L;
         LocalDateTime date = LocalDateTime.now();
         LocalDateTime startDate = LocalDateTime.of(2020, 6, 14, 15, 0, 0);
         LocalDateTime endDate = LocalDateTime.of(2020, 6, 14, 18, 30, 0);
 
-        Optional<PriceEntity> entity = Optional.of(new PriceEntity());
         Price price = new Price(1, startDate, endDate, 2, 35455L, 0, new BigDecimal("25.45"), "EUR");
 
-        when(dataPriceRepository.findFinalPriceWithJpql(brandId, productId, date)).thenReturn(entity);
-        when(priceMapper.toDomain(any(PriceEntity.class))).thenReturn(price);
+        when(dataPriceRepository.findFinalPrice(brandId, productId, date)).thenReturn(Optional.of(price));
 
         Optional<Price> result = adapter.findFinalPrice(brandId, productId, date);
 
         assertTrue(result.isPresent());
         assertEquals(price, result.get());
-        verify(dataPriceRepository).findFinalPriceWithJpql(brandId, productId, date);
+        verify(dataPriceRepository).findFinalPrice(brandId, productId, date);
     }
 
     @Test
-    void testFindFinalPriceWithConventionReturnsMappedPrice() {
+    void testFindFinalPriceWithConventionReturnsProjectedPrices() {
         Integer brandId = 1;
         Long productId = 2L;
         LocalDateTime date = LocalDateTime.of(2020, 6, 14, 18, 30, 0);
 
-        PriceEntity entity = new PriceEntity();
-        List<PriceEntity> entities = Collections.singletonList(entity);
-
         Price expectedPrice = new Price(1, date, date, 2, 35455L, 0, new BigDecimal("25.45"), "EUR");
 
-        when(dataPriceRepository.findByBrandIdAndProductIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(brandId, productId, date,date)).thenReturn(entities);
-        when(priceMapper.toDomain(entity)).thenReturn(expectedPrice);
+        when(dataPriceRepository.findApplicablePrices(brandId, productId, date)).thenReturn(List.of(expectedPrice));
 
         List<Price> result = adapter.findFinalPriceWithConvention(brandId, productId, date);
 
         assertEquals(1, result.size());
         assertEquals(expectedPrice, result.getFirst());
-        verify(dataPriceRepository).findByBrandIdAndProductIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(brandId, productId, date,date);
+        verify(dataPriceRepository).findApplicablePrices(brandId, productId, date);
     }
 
     @Test
-    void testFindAllReturnsMappedPrice() {
-        PriceEntity entity = new PriceEntity();
+    void testFindPriceWindowReturnsApplicablePricesAndValidity() {
+        Integer brandId = 1;
+        Long productId = 2L;
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+        LocalDateTime startDate = LocalDateTime.of(2020, 6, 14, 15, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2020, 6, 14, 18, 30, 0);
+
+        Price expectedPrice = new Price(1, startDate, endDate, 2, 35455L, 0, new BigDecimal("25.45"), "EUR");
+
+        when(dataPriceRepository.findPrices(brandId, productId)).thenReturn(List.of(expectedPrice));
+
+        PriceWindow result = adapter.findPriceWindow(brandId, productId, date);
+
+        assertEquals(List.of(expectedPrice), result.applicablePrices());
+        assertEquals(startDate, result.validFrom());
+        assertEquals(endDate.plusNanos(1), result.validUntil());
+        verify(dataPriceRepository).findPrices(brandId, productId);
+    }
+
+    @Test
+    void testFindPriceWindowsRunsOneGroupedQuery() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+        Price firstPrice = new Price(1, date.minusHours(1), date.plusHours(1), 2, 35455L, 0, new BigDecimal("25.45"), "EUR");
+        Price otherBrandPrice = new Price(2, date.minusHours(1), date.plusHours(1), 3, 35455L, 0, new BigDecimal("30.50"), "EUR");
+        List<PriceQuery> queries = List.of(
+                new PriceQuery(35455L, 1, date),
+                new PriceQuery(12345L, 2, date),
+                new PriceQuery(35455L, 2, date));
+
+        when(dataPriceRepository.findPricesIn(Set.of(1, 2), Set.of(35455L, 12345L)))
+                .thenReturn(List.of(firstPrice, otherBrandPrice));
+
+        List<PriceWindow> result = adapter.findPriceWindows(queries);
+
+        assertEquals(3, result.size());
+        assertEquals(List.of(firstPrice), result.get(0).applicablePrices());
+        assertTrue(result.get(1).applicablePrices().isEmpty());
+        assertEquals(List.of(otherBrandPrice), result.get(2).applicablePrices());
+        verify(dataPriceRepository).findPricesIn(Set.of(1, 2), Set.of(35455L, 12345L));
+    }
+
+    @Test
+    void testFindAllReturnsProjectedPrices() {
         LocalDateTime startDate = LocalDateTime.of(2020, 6, 14, 15, 0, 0);
         LocalDateTime endDate = LocalDateTime.of(2020, 6, 14, 18, 30, 0);
         Price price = new Price(1, startDate, endDate, 2, 35455L, 0, new BigDecimal("25.45"), "EUR");
 
-        when(dataPriceRepository.findAll()).thenReturn(List.of(entity));
-        when(priceMapper.toDomain(entity)).thenReturn(price);
+        when(dataPriceRepository.findAllPrices()).thenReturn(List.of(price));
 
         List<Price> result = adapter.findAll();
 
         assertEquals(1, result.size());
         assertEquals(price, result.getFirst());
-        verify(dataPriceRepository).findAll();
+        verify(dataPriceRepository).findAllPrices();
+    }
+
+    @Test
+    void testFindPageWithoutCursorReadsFirstPage() {
+        Price price = new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1, 35455L, 0, new BigDecimal("35.50"), "EUR");
+
+        when(dataPriceRepository.findFirstPage(Limit.of(2))).thenReturn(List.of(price));
+
+        List<Price> result = adapter.findPage(null, 2);
+
+        assertEquals(List.of(price), result);
+        verify(dataPriceRepository, never()).findPageAfter(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testFindPageWithCursorReadsAfterLastKey() {
+        LocalDateTime startDate = LocalDateTime.of(2020, 6, 14, 15, 0, 0);
+        PriceCursor after = new PriceCursor(1, 35455L, startDate, 2, 7L);
+
+        when(dataPriceRepository.findPageAfter(1, 35455L, startDate, 2, 7L, Limit.of(2))).thenReturn(List.of());
+
+        assertTrue(adapter.findPage(after, 2).isEmpty());
+        verify(dataPriceRepository).findPageAfter(1, 35455L, startDate, 2, 7L, Limit.of(2));
+    }
+
+    @Test
+    void testStreamAllDeliversEveryRowAndClosesTheCursor() {
+        Price price = new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1, 35455L, 0, new BigDecimal("35.50"), "EUR");
+        List<String> closed = new ArrayList<>();
+
+        when(dataPriceRepository.streamAllInKeyOrder())
+                .thenReturn(Stream.of(price, price).onClose(() -> closed.add("cursor")));
+
+        List<Price> delivered = new ArrayList<>();
+        adapter.streamAll(delivered::add);
+
+        assertEquals(List.of(price, price), delivered);
+        assertEquals(List.of("cursor"), closed);
     }
 }
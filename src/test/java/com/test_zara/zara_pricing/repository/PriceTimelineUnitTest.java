@@ -0,0 +1,142 @@
+package com.test_zara.zara_pricing.repository;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.services.PriceDomainService;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory.CurrencyTable;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory.EpochTimeCodec;
+import com.test_zara.zara_pricing.infrastructure.adapters.output.persistence.memory.PriceSlice;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceTimelineUnitTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+
+    private final PriceDomainService priceDomainService = new PriceDomainService();
+
+    @Test
+    void whenPricesOverlapThenSegmentsHoldTheHighestPriorityPrice() {
+        Price base = price(1, 0, 0, 100);
+        Price promo = price(2, 1, 10, 20);
+
+        PriceSlice timeline = slice(List.of(base, promo));
+
+        assertThat(timeline.segmentCount()).isEqualTo(3);
+        assertThat(timeline.priceAt(second(5))).contains(base);
+        assertThat(timeline.priceAt(second(10))).contains(promo);
+        assertThat(timeline.priceAt(second(20))).contains(promo);
+        assertThat(timeline.priceAt(second(21))).contains(base);
+        assertThat(timeline.priceAt(second(101))).isEmpty();
+        assertThat(timeline.priceAt(second(-1))).isEmpty();
+    }
+
+    @Test
+    void whenLowerPriorityPriceStartsInsideWinnerThenSegmentsAreMerged() {
+        Price winner = price(1, 5, 0, 100);
+        Price hidden = price(2, 1, 10, 20);
+
+        PriceSlice timeline = slice(List.of(winner, hidden));
+
+        assertThat(timeline.segmentCount()).isEqualTo(1);
+        assertThat(timeline.priceAt(second(15))).contains(winner);
+    }
+
+    @Test
+    void whenPrioritiesTieThenLatestStartAndHighestPriceListWin() {
+        Price earlier = price(1, 1, 0, 100);
+        Price later = price(2, 1, 10, 100);
+        Price sameStartHigherList = price(3, 1, 10, 50);
+
+        PriceSlice timeline = slice(List.of(earlier, later, sameStartHigherList));
+
+        assertThat(timeline.priceAt(second(5))).contains(earlier);
+        assertThat(timeline.priceAt(second(30))).contains(sameStartHigherList);
+        assertThat(timeline.priceAt(second(60))).contains(later);
+    }
+
+    @Test
+    void whenRandomOverlappingPricesThenTimelineAgreesWithDomainSelection() {
+        Random random = new Random(35455L);
+
+        for (int round = 0; round < 200; round++) {
+            List<Price> rows = new ArrayList<>();
+            int size = 1 + random.nextInt(25);
+            for (int i = 0; i < size; i++) {
+                int start = random.nextInt(200);
+                rows.add(price(i + 1, random.nextInt(4), start, start + random.nextInt(80)));
+            }
+
+            PriceSlice timeline = slice(rows);
+
+            for (int hour = -5; hour < 300; hour++) {
+                LocalDateTime date = at(hour);
+                List<Price> covering = rows.stream()
+                        .filter(row -> !row.startDate().isAfter(date) && !row.endDate().isBefore(date))
+                        .toList();
+
+                Optional<Price> expected = covering.isEmpty()
+                        ? Optional.empty()
+                        : Optional.of(priceDomainService.selectHighestPriorityPrice(covering));
+                Optional<Price> expectedByQuery = covering.stream()
+                        .sorted(PriceDomainService.PRICE_PRECEDENCE.reversed())
+                        .findFirst();
+
+                assertThat(timeline.priceAt(second(hour))).isEqualTo(expected).isEqualTo(expectedByQuery);
+            }
+        }
+    }
+
+    @Test
+    void whenRowsTieOnPriorityStartAndPriceListThenTimelineAgreesWithPrecedence() {
+        Random random = new Random(12345L);
+
+        for (int round = 0; round < 200; round++) {
+            List<Price> rows = new ArrayList<>();
+            int size = 2 + random.nextInt(15);
+            for (int i = 0; i < size; i++) {
+                int start = 10 * random.nextInt(5);
+                rows.add(new Price(1, at(start), at(start + 1 + random.nextInt(60)), 1 + random.nextInt(2), 35455L,
+                        random.nextInt(2), new BigDecimal(random.nextInt(3) + ".50"), random.nextBoolean() ? "EUR" : "USD"));
+            }
+
+            PriceSlice timeline = slice(rows);
+
+            for (int hour = 0; hour < 110; hour++) {
+                LocalDateTime date = at(hour);
+                Optional<Price> expected = rows.stream()
+                        .filter(row -> !row.startDate().isAfter(date) && !row.endDate().isBefore(date))
+                        .max(PriceDomainService.PRICE_PRECEDENCE);
+
+                assertThat(timeline.priceAt(second(hour))).isEqualTo(expected);
+            }
+        }
+    }
+
+    private static PriceSlice slice(List<Price> rows) {
+        return PriceSlice.of(rows.stream()
+                .sorted(Comparator.comparing(Price::startDate))
+                .toArray(Price[]::new), new CurrencyTable(), EpochTimeCodec.UTC);
+    }
+
+    private static long second(int hours) {
+        return EpochTimeCodec.UTC.toEpochSecond(at(hours));
+    }
+
+    private static LocalDateTime at(int hours) {
+        return ORIGIN.plusHours(hours);
+    }
+
+    private static Price price(int priceList, int priority, int startHour, int endHour) {
+        return new Price(1, at(startHour), at(endHour), priceList, 35455L, priority,
+                new BigDecimal(priceList + ".00"), "EUR");
+    }
+}
@@ -0,0 +1,63 @@
+package com.test_zara.zara_pricing.repository;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.ports.in.PriceInputPort;
+import com.test_zara.zara_pricing.infrastructure.catalog.SyntheticCatalog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Arranca con el perfil synthetic-catalog y un catálogo pequeño: las filas de schema.sql siguen ahí, el catálogo
+ * se carga entero antes de que la aplicación atienda consultas y el servicio devuelve la tarifa que resulta de
+ * aplicar las prioridades sobre las filas generadas.
+ */
+@SpringBootTest(properties = {
+        "pricing.synthetic-catalog.products=2000",
+        "pricing.synthetic-catalog.batch-size=500"
+})
+@ActiveProfiles("synthetic-catalog")
+class SyntheticCatalogLoadIT {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    @Autowired
+    private SyntheticCatalog catalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PriceInputPort priceInputPort;
+
+    @Test
+    void whenProfileIsActiveThenCatalogIsLoadedNextToSchemaRows() {
+        long generated = IntStream.range(0, catalog.products()).mapToLong(index -> catalog.product(index).size()).sum();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM prices", Long.class)).isEqualTo(4 + generated);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM brands", Integer.class)).isEqualTo(catalog.brands());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM prices WHERE product_id = 35455", Integer.class))
+                .isEqualTo(4);
+    }
+
+    @Test
+    void whenGeneratedProductIsQueriedThenHighestPriorityTariffIsReturned() {
+        for (int index = 0; index < catalog.products(); index += 37) {
+            List<Price> prices = catalog.product(index);
+            Price expected = PriceWindow.of(prices, DATE).winner().orElseThrow();
+
+            Price result = priceInputPort.getFinalPrice(DATE, expected.productId(), expected.brandId());
+
+            assertThat(result).isEqualTo(expected);
+        }
+    }
+}
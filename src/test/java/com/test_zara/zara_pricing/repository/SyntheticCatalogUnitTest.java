@@ -0,0 +1,97 @@
+package com.test_zara.zara_pricing.repository;
+
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.infrastructure.catalog.SyntheticCatalog;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SyntheticCatalogUnitTest {
+
+    private static final int PRODUCTS = 20_000;
+
+    private static final int MAX_PRICES = 200;
+
+    private final SyntheticCatalog catalog = new SyntheticCatalog(35455L, 8, PRODUCTS, MAX_PRICES);
+
+    @Test
+    void whenSameSeedAndSizesThenSameRows() {
+        SyntheticCatalog again = new SyntheticCatalog(35455L, 8, PRODUCTS, MAX_PRICES);
+
+        for (int index = 0; index < PRODUCTS; index += 997) {
+            assertThat(again.product(index)).isEqualTo(catalog.product(index));
+        }
+    }
+
+    @Test
+    void whenSeedChangesThenRowsChange() {
+        SyntheticCatalog other = new SyntheticCatalog(12345L, 8, PRODUCTS, MAX_PRICES);
+
+        long different = IntStream.range(0, 100)
+                .filter(index -> !other.product(index).equals(catalog.product(index)))
+                .count();
+
+        assertThat(different).isGreaterThan(90);
+    }
+
+    @Test
+    void whenProductIsGeneratedThenBaseTariffCoversThePeriodAndPromotionsOverlapIt() {
+        for (int index = 0; index < PRODUCTS; index += 101) {
+            List<Price> prices = catalog.product(index);
+            Price base = prices.getFirst();
+
+            assertThat(base.priority()).isZero();
+            assertThat(base.priceList()).isEqualTo(1);
+            assertThat(base.startDate()).isEqualTo(SyntheticCatalog.PERIOD_START);
+            assertThat(base.endDate()).isEqualTo(SyntheticCatalog.PERIOD_END);
+            assertThat(prices).hasSizeBetween(1, MAX_PRICES);
+            assertThat(prices).allSatisfy(price -> {
+                assertThat(price.productId()).isEqualTo(SyntheticCatalog.FIRST_PRODUCT_ID + index);
+                assertThat(price.brandId()).isEqualTo(base.brandId()).isBetween(1, 8);
+                assertThat(price.startDate()).isBefore(price.endDate());
+                assertThat(price.startDate()).isAfterOrEqualTo(SyntheticCatalog.PERIOD_START);
+                assertThat(price.endDate()).isBeforeOrEqualTo(SyntheticCatalog.PERIOD_END);
+                assertThat(price.price()).isPositive().isLessThanOrEqualTo(base.price());
+                assertThat(price.price().scale()).isEqualTo(2);
+            });
+            assertThat(prices.stream().skip(1)).allSatisfy(promotion ->
+                    assertThat(promotion.priority()).isBetween(1, 3));
+            Set<Integer> priceLists = new HashSet<>();
+            prices.forEach(price -> priceLists.add(price.priceList()));
+            assertThat(priceLists).hasSize(prices.size());
+        }
+    }
+
+    @Test
+    void whenCatalogIsGeneratedThenBrandsAndSizesAreSkewed() {
+        int[] productsPerBrand = new int[9];
+        int single = 0;
+        int large = 0;
+        int largest = 0;
+        for (int index = 0; index < PRODUCTS; index++) {
+            List<Price> prices = catalog.product(index);
+            productsPerBrand[prices.getFirst().brandId()]++;
+            single += prices.size() == 1 ? 1 : 0;
+            large += prices.size() >= 20 ? 1 : 0;
+            largest = Math.max(largest, prices.size());
+        }
+
+        assertThat(productsPerBrand[1]).isGreaterThan(productsPerBrand[2]).isGreaterThan(productsPerBrand[8] * 4);
+        assertThat(productsPerBrand[8]).isPositive();
+        assertThat(single).isGreaterThan(PRODUCTS / 2);
+        assertThat(large).isPositive().isLessThan(PRODUCTS / 50);
+        assertThat(largest).isEqualTo(MAX_PRICES);
+    }
+
+    @Test
+    void whenSizesAreNotPositiveThenCatalogIsRejected() {
+        assertThatThrownBy(() -> new SyntheticCatalog(1L, 0, 10, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SyntheticCatalog(1L, 8, 10, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,169 @@
+package com.test_zara.zara_pricing.service;
+
+import com.test_zara.zara_pricing.application.coalescing.CoalescingPriceOutputPort;
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.ports.out.PriceOutputPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingPriceOutputPortUnitTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    private static final int CALLERS = 16;
+
+    @Mock
+    private PriceOutputPort delegate;
+
+    private final ThreadPoolExecutor callers = (ThreadPoolExecutor) Executors.newFixedThreadPool(CALLERS);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void whenIdenticalLookupsRunConcurrentlyThenOneQueryServesAll() throws Exception {
+        PriceWindow window = PriceWindow.of(List.of(price()), DATE);
+        CoalescingPriceOutputPort port = new CoalescingPriceOutputPort(delegate, Duration.ofSeconds(5));
+        when(delegate.findPriceWindow(1, 35455L, DATE)).thenAnswer(invocation -> {
+            release.await();
+            return window;
+        });
+
+        List<Future<PriceWindow>> results = submit(() -> port.findPriceWindow(1, 35455L, DATE));
+        waitForFollowers(port);
+        release.countDown();
+
+        for (Future<PriceWindow> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(window);
+        }
+        verify(delegate, times(1)).findPriceWindow(1, 35455L, DATE);
+        assertThat(port.executedCount()).isEqualTo(1);
+        assertThat(port.coalescedCount()).isEqualTo(CALLERS - 1);
+        assertThat(port.coalescingRatio()).isEqualTo((double) (CALLERS - 1) / CALLERS);
+        assertThat(port.inFlightCount()).isZero();
+    }
+
+    @Test
+    void whenSharedQueryFailsThenEveryWaiterReceivesTheFailure() throws Exception {
+        CoalescingPriceOutputPort port = new CoalescingPriceOutputPort(delegate, Duration.ofSeconds(5));
+        IllegalStateException failure = new IllegalStateException("base de datos caída");
+        when(delegate.findFinalPrice(1, 35455L, DATE))
+                .thenAnswer(invocation -> {
+                    release.await();
+                    throw failure;
+                })
+                .thenReturn(Optional.of(price()));
+
+        List<Future<Optional<Price>>> results = submit(() -> port.findFinalPrice(1, 35455L, DATE));
+        waitForFollowers(port);
+        release.countDown();
+
+        for (Future<Optional<Price>> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCause(failure);
+        }
+        assertThat(port.findFinalPrice(1, 35455L, DATE)).contains(price());
+        verify(delegate, times(2)).findFinalPrice(1, 35455L, DATE);
+    }
+
+    @Test
+    void whenWaitExceedsMaxWaitThenCallerQueriesOnItsOwn() throws Exception {
+        CoalescingPriceOutputPort port = new CoalescingPriceOutputPort(delegate, Duration.ofMillis(50));
+        List<Price> prices = List.of(price());
+        when(delegate.findFinalPriceWithConvention(1, 35455L, DATE))
+                .thenAnswer(invocation -> {
+                    release.await();
+                    return prices;
+                })
+                .thenReturn(prices);
+
+        Future<List<Price>> slow = callers.submit(() -> port.findFinalPriceWithConvention(1, 35455L, DATE));
+        awaitUntil(port::executedCount, 1);
+
+        assertThat(port.findFinalPriceWithConvention(1, 35455L, DATE)).isEqualTo(prices);
+        assertThat(port.timedOutCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo(prices);
+        verify(delegate, times(2)).findFinalPriceWithConvention(1, 35455L, DATE);
+    }
+
+    @Test
+    void whenLookupsAreSequentialOrDifferThenNothingIsShared() {
+        CoalescingPriceOutputPort port = new CoalescingPriceOutputPort(delegate, Duration.ofSeconds(5));
+        when(delegate.findPriceWindow(1, 35455L, DATE)).thenReturn(PriceWindow.empty());
+        when(delegate.findPriceWindow(1, 35455L, DATE.plusSeconds(1))).thenReturn(PriceWindow.empty());
+
+        port.findPriceWindow(1, 35455L, DATE);
+        port.findPriceWindow(1, 35455L, DATE);
+        port.findPriceWindow(1, 35455L, DATE.plusSeconds(1));
+
+        verify(delegate, times(2)).findPriceWindow(1, 35455L, DATE);
+        assertThat(port.coalescedCount()).isZero();
+        assertThat(port.coalescingRatio()).isZero();
+    }
+
+    private <T> List<Future<T>> submit(Callable<T> lookup) {
+        List<Future<T>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(callers.submit(lookup));
+        }
+        return results;
+    }
+
+    /**
+     * Los que esperan no cuentan hasta recibir el resultado; basta con que todos hayan entrado y solo uno consulte
+     */
+    private void waitForFollowers(CoalescingPriceOutputPort port) throws InterruptedException {
+        awaitUntil(port::executedCount, 1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (callers.getActiveCount() < CALLERS
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Thread.sleep(50);
+    }
+
+    private static void awaitUntil(LongSupplier counter, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter.getAsLong() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static Price price() {
+        return new Price(1, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                2, 35455L, 1, new BigDecimal("25.45"), "EUR");
+    }
+}
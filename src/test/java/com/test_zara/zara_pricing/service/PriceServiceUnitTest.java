@@ -3,6 +3,11 @@ package com.test_zara.zara_pricing.service;
 import com.test_zara.zara_pricing.application.services.impl.PriceServiceImpl;
 import com.test_zara.zara_pricing.domain.exceptions.PriceNotFoundException;
 import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceCursor;
+import com.test_zara.zara_pricing.domain.model.PriceLookup;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.model.ResolvedPrice;
 import com.test_zara.zara_pricing.domain.ports.out.PriceOutputPort;
 import com.test_zara.zara_pricing.domain.ports.out.PriceEventPublisher;
 import com.test_zara.zara_pricing.domain.services.PriceDomainService;
@@ -14,9 +19,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -71,16 +78,32 @@ class PriceServiceUnitTest {
         verify(priceEventPublisher, times(1)).publishPriceRetrieved(price);
     }
 
+    @Test
+    void whenDateHasFractionalSecondsThenPortReceivesWholeSeconds() {
+        LocalDateTime endDate = LocalDateTime.of(2020, 6, 14, 23, 59, 59);
+        Price price = new Price(1, endDate.minusHours(1), endDate, 2, 35455L, 0, new BigDecimal("25.45"), "EUR");
+        PriceQuery query = new PriceQuery(35455L, 1, endDate.plusNanos(500_000_000));
+
+        when(priceOutputPort.findFinalPrice(1, 35455L, endDate)).thenReturn(Optional.of(price));
+        when(priceOutputPort.findPriceWindows(List.of(new PriceQuery(35455L, 1, endDate))))
+                .thenReturn(List.of(PriceWindow.of(List.of(price), endDate)));
+
+        assertThat(priceService.getFinalPrice(endDate.plusNanos(500_000_000), 35455L, 1)).isEqualTo(price);
+        assertThat(priceService.getFinalPrices(List.of(query)))
+                .containsExactly(new PriceLookup(query, price));
+    }
+
     @Test
     void whenPriceNotFoundThenThrowException() {
         LocalDateTime startDate = LocalDateTime.of(2020, 6, 14, 15, 0, 0);
 
         when(priceOutputPort.findFinalPrice(any(), any(), any())).thenReturn(Optional.empty());
 
-        org.junit.jupiter.api.Assertions.assertThrows(
+        PriceNotFoundException exception = org.junit.jupiter.api.Assertions.assertThrows(
                 PriceNotFoundException.class,
                 () -> priceService.getFinalPrice(startDate, 35455L, 1)
         );
+        assertThat(exception.getStackTrace()).isEmpty();
         verify(priceOutputPort, times(1)).findFinalPrice(any(), any(), any());
         verify(priceEventPublisher, never()).publishPriceRetrieved(any(Price.class));
     }
@@ -143,6 +166,52 @@ class PriceServiceUnitTest {
         verify(priceEventPublisher, never()).publishPriceRetrieved(any(Price.class));
     }
 
+    @Test
+    void whenResolveFinalPriceThenReturnWinnerAndNextBoundary() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+        Price base = new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1, 35455L, 0, new BigDecimal("35.50"), "EUR");
+        Price promotion = new Price(1, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                2, 35455L, 1, new BigDecimal("25.45"), "EUR");
+
+        when(priceOutputPort.findPriceWindow(1, 35455L, date)).thenReturn(PriceWindow.of(List.of(base, promotion), date));
+
+        ResolvedPrice response = priceService.resolveFinalPrice(date, 35455L, 1);
+
+        assertThat(response.price()).isEqualTo(promotion);
+        assertThat(response.validUntil()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 0).plusNanos(1));
+        verify(priceEventPublisher, times(1)).publishPriceRetrieved(promotion);
+    }
+
+    @Test
+    void whenResolveFinalPriceWithEmptyWindowThenThrowException() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+        when(priceOutputPort.findPriceWindow(1, 35455L, date)).thenReturn(PriceWindow.empty());
+
+        org.junit.jupiter.api.Assertions.assertThrows(
+                PriceNotFoundException.class,
+                () -> priceService.resolveFinalPrice(date, 35455L, 1)
+        );
+        verify(priceEventPublisher, never()).publishPriceRetrieved(any(Price.class));
+    }
+
+    @Test
+    void whenResolveFinalPriceWithConventionThenDomainServiceSelectsFromWindow() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+        Price price = new Price(1, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                2, 35455L, 1, new BigDecimal("25.45"), "EUR");
+        PriceWindow window = PriceWindow.of(List.of(price), date);
+
+        when(priceOutputPort.findPriceWindow(1, 35455L, date)).thenReturn(window);
+        when(priceDomainService.selectHighestPriorityPrice(window.applicablePrices())).thenReturn(price);
+
+        ResolvedPrice response = priceService.resolveFinalPriceWithConvention(date, 35455L, 1);
+
+        assertThat(response).isEqualTo(new ResolvedPrice(price, window.validUntil()));
+        verify(priceEventPublisher, times(1)).publishPriceRetrieved(price);
+    }
+
     @Test
     void whenValidRequestThenReturnPriceList() {
         LocalDateTime startDate = LocalDateTime.of(2020, 6, 14, 15, 0, 0);
@@ -201,4 +270,96 @@ class PriceServiceUnitTest {
         verify(priceOutputPort, times(1)).findAll();
         verify(priceEventPublisher, times(2)).publishPriceRetrieved(any(Price.class));
     }
+
+    @Test
+    void whenBatchRequestThenReturnPerItemResultsAndPublishOnce() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+        Price price = new Price(1, date.minusHours(1), date.plusHours(2), 2, 35455L, 1, new BigDecimal("25.45"), "EUR");
+        PriceQuery known = new PriceQuery(35455L, 1, date);
+        PriceQuery unknown = new PriceQuery(99999L, 1, date);
+
+        when(priceOutputPort.findPriceWindows(List.of(known, unknown)))
+                .thenReturn(List.of(PriceWindow.of(List.of(price), date), PriceWindow.empty()));
+
+        List<PriceLookup> response = priceService.getFinalPrices(List.of(known, unknown));
+
+        assertThat(response).containsExactly(new PriceLookup(known, price), new PriceLookup(unknown, null));
+        assertThat(response.get(1).found()).isFalse();
+        verify(priceOutputPort, times(1)).findPriceWindows(any());
+        verify(priceEventPublisher, times(1)).publishPricesRetrieved(List.of(price));
+        verify(priceEventPublisher, never()).publishPriceRetrieved(any(Price.class));
+    }
+
+    @Test
+    void whenBatchHasNoPricesThenNothingIsPublished() {
+        PriceQuery query = new PriceQuery(35455L, 1, LocalDateTime.of(2019, 1, 1, 0, 0, 0));
+
+        when(priceOutputPort.findPriceWindows(List.of(query))).thenReturn(List.of(PriceWindow.empty()));
+
+        List<PriceLookup> response = priceService.getFinalPrices(List.of(query));
+
+        assertThat(response).containsExactly(new PriceLookup(query, null));
+        verify(priceEventPublisher, never()).publishPricesRetrieved(any());
+    }
+
+    @Test
+    void whenBatchPublisherFailsThenResultsAreStillReturned() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+        Price price = new Price(1, date.minusHours(1), date.plusHours(2), 2, 35455L, 1, new BigDecimal("25.45"), "EUR");
+        PriceQuery query = new PriceQuery(35455L, 1, date);
+
+        when(priceOutputPort.findPriceWindows(List.of(query))).thenReturn(List.of(PriceWindow.of(List.of(price), date)));
+        doThrow(new RuntimeException("Publisher error")).when(priceEventPublisher).publishPricesRetrieved(any());
+
+        List<PriceLookup> response = priceService.getFinalPrices(List.of(query));
+
+        assertThat(response).containsExactly(new PriceLookup(query, price));
+    }
+
+    @Test
+    void whenPageRequestedThenPricesArePublishedInOneBatch() {
+        LocalDateTime startDate = LocalDateTime.of(2020, 6, 14, 15, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2020, 6, 14, 18, 30, 0);
+        PriceCursor after = new PriceCursor(1, 35455L, startDate, 1, 1L);
+        List<Price> page = List.of(new Price(1, startDate, endDate, 2, 35455L, 1, new BigDecimal("25.45"), "EUR"));
+
+        when(priceOutputPort.findPage(after, 2)).thenReturn(page);
+
+        List<Price> response = priceService.getPricesPage(after, 2);
+
+        assertThat(response).isEqualTo(page);
+        verify(priceEventPublisher, times(1)).publishPricesRetrieved(page);
+        verify(priceEventPublisher, never()).publishPriceRetrieved(any(Price.class));
+    }
+
+    @Test
+    void whenLastPageIsEmptyThenNothingIsPublished() {
+        when(priceOutputPort.findPage(null, 10)).thenReturn(List.of());
+
+        assertThat(priceService.getPricesPage(null, 10)).isEmpty();
+        verify(priceEventPublisher, never()).publishPricesRetrieved(any());
+    }
+
+    @Test
+    void whenStreamingThenEveryPriceIsDeliveredAndEventsArePublishedInBatches() {
+        LocalDateTime startDate = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+        List<Price> prices = new ArrayList<>();
+        for (long productId = 1; productId <= 1_200; productId++) {
+            prices.add(new Price(1, startDate, startDate.plusDays(1), 1, productId, 0, new BigDecimal("35.50"), "EUR"));
+        }
+        doAnswer(invocation -> {
+            Consumer<Price> action = invocation.getArgument(0);
+            prices.forEach(action);
+            return null;
+        }).when(priceOutputPort).streamAll(any());
+
+        List<Price> delivered = new ArrayList<>();
+        priceService.streamPricesListAll(delivered::add);
+
+        assertThat(delivered).isEqualTo(prices);
+        verify(priceEventPublisher).publishPricesRetrieved(prices.subList(0, 500));
+        verify(priceEventPublisher).publishPricesRetrieved(prices.subList(500, 1_000));
+        verify(priceEventPublisher).publishPricesRetrieved(prices.subList(1_000, 1_200));
+        verify(priceEventPublisher, never()).publishPriceRetrieved(any(Price.class));
+    }
 }
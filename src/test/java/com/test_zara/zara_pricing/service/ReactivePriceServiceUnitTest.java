@@ -0,0 +1,134 @@
+package com.test_zara.zara_pricing.service;
+
+import com.test_zara.zara_pricing.application.services.impl.ReactivePriceServiceImpl;
+import com.test_zara.zara_pricing.domain.exceptions.PriceNotFoundException;
+import com.test_zara.zara_pricing.domain.model.Price;
+import com.test_zara.zara_pricing.domain.model.PriceQuery;
+import com.test_zara.zara_pricing.domain.model.PriceWindow;
+import com.test_zara.zara_pricing.domain.ports.out.PriceEventPublisher;
+import com.test_zara.zara_pricing.domain.ports.out.ReactivePriceOutputPort;
+import com.test_zara.zara_pricing.domain.services.PriceDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactivePriceServiceUnitTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    @Mock
+    private ReactivePriceOutputPort priceOutputPort;
+
+    @Mock
+    private PriceEventPublisher priceEventPublisher;
+
+    private ReactivePriceServiceImpl priceService;
+
+    @BeforeEach
+    void setUp() {
+        priceService = new ReactivePriceServiceImpl(
+                priceOutputPort, new PriceDomainService(), priceEventPublisher, Schedulers.immediate());
+    }
+
+    @Test
+    void whenPriceIsFoundThenItIsEmittedAndPublished() {
+        Price price = price(35455L, 2, 1);
+        when(priceOutputPort.findFinalPrice(1, 35455L, DATE)).thenReturn(Mono.just(price));
+
+        StepVerifier.create(priceService.getFinalPrice(DATE, 35455L, 1))
+                .expectNext(price)
+                .verifyComplete();
+
+        verify(priceEventPublisher).publishPriceRetrieved(price);
+    }
+
+    @Test
+    void whenPriceIsMissingThenNotFoundIsSignalled() {
+        when(priceOutputPort.findFinalPrice(1, 35455L, DATE)).thenReturn(Mono.empty());
+
+        StepVerifier.create(priceService.getFinalPrice(DATE, 35455L, 1))
+                .expectError(PriceNotFoundException.class)
+                .verify();
+
+        verify(priceEventPublisher, never()).publishPriceRetrieved(any());
+    }
+
+    @Test
+    void whenPublisherFailsThenPriceIsStillEmitted() {
+        Price price = price(35455L, 2, 1);
+        when(priceOutputPort.findFinalPrice(1, 35455L, DATE)).thenReturn(Mono.just(price));
+        doThrow(new RuntimeException("Publisher error")).when(priceEventPublisher).publishPriceRetrieved(any());
+
+        StepVerifier.create(priceService.getFinalPrice(DATE, 35455L, 1))
+                .expectNext(price)
+                .verifyComplete();
+    }
+
+    @Test
+    void whenConventionThenHighestPriorityIsSelected() {
+        Price base = price(35455L, 1, 0);
+        Price promo = price(35455L, 2, 1);
+        when(priceOutputPort.findFinalPriceWithConvention(1, 35455L, DATE)).thenReturn(Flux.just(base, promo));
+
+        StepVerifier.create(priceService.getFinalPriceWithConvention(DATE, 35455L, 1))
+                .expectNext(promo)
+                .verifyComplete();
+
+        verify(priceEventPublisher).publishPriceRetrieved(promo);
+    }
+
+    @Test
+    void whenBatchThenLookupsFollowQueryOrderAndFoundPricesArePublished() {
+        Price price = price(35455L, 2, 1);
+        List<PriceQuery> queries = List.of(new PriceQuery(35455L, 1, DATE), new PriceQuery(99999L, 1, DATE));
+        when(priceOutputPort.findPriceWindows(queries))
+                .thenReturn(Mono.just(List.of(PriceWindow.of(List.of(price), DATE), PriceWindow.empty())));
+
+        StepVerifier.create(priceService.getFinalPrices(queries))
+                .assertNext(lookups -> {
+                    assertThat(lookups).hasSize(2);
+                    assertThat(lookups.get(0).price()).isEqualTo(price);
+                    assertThat(lookups.get(1).found()).isFalse();
+                })
+                .verifyComplete();
+
+        verify(priceEventPublisher).publishPricesRetrieved(List.of(price));
+    }
+
+    @Test
+    void whenListingEveryPriceThenEventsArePublishedInBatches() {
+        List<Price> prices = LongStream.range(0, 1_200).mapToObj(id -> price(id, 1, 0)).toList();
+        when(priceOutputPort.findAll()).thenReturn(Flux.fromIterable(prices));
+
+        StepVerifier.create(priceService.getPricesListAll())
+                .expectNextSequence(prices)
+                .verifyComplete();
+
+        verify(priceEventPublisher, times(3)).publishPricesRetrieved(any());
+    }
+
+    private static Price price(Long productId, int priceList, int priority) {
+        return new Price(1, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                priceList, productId, priority, new BigDecimal("35.50"), "EUR");
+    }
+}
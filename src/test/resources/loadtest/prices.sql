@@ -0,0 +1,17 @@
+-- Catálogo de PriceLoadIT: los productos 100001..101000 de la marca 1 con las mismas cuatro tarifas que el 35455,
+-- de modo que todas las fechas de la prueba tienen precio en todos los productos
+INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, curr)
+SELECT 1, '2020-06-14 00:00:00', '2020-12-31 23:59:59', 1, 100000 + X, 0, 35.50 + MOD(X, 100), 'EUR'
+FROM SYSTEM_RANGE(1, 1000);
+
+INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, curr)
+SELECT 1, '2020-06-14 15:00:00', '2020-06-14 18:30:00', 2, 100000 + X, 1, 25.45 + MOD(X, 100), 'EUR'
+FROM SYSTEM_RANGE(1, 1000);
+
+INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, curr)
+SELECT 1, '2020-06-15 00:00:00', '2020-06-15 11:00:00', 3, 100000 + X, 1, 30.50 + MOD(X, 100), 'EUR'
+FROM SYSTEM_RANGE(1, 1000);
+
+INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, curr)
+SELECT 1, '2020-06-15 16:00:00', '2020-12-31 23:59:59', 4, 100000 + X, 1, 38.95 + MOD(X, 100), 'EUR'
+FROM SYSTEM_RANGE(1, 1000);